@@ -0,0 +1,56 @@
+package com.example.apigateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rejects service-to-service endpoints (/api/v1/{service}/internal/**) on every route.
+ * They are only called between services (Feign, through Eureka), never through the gateway.
+ */
+@Component
+public class InternalEndpointFilter implements GlobalFilter, Ordered {
+
+    private static final String INTERNAL_SEGMENT = "internal";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (isInternal(exchange.getRequest().getPath().value())) {
+            exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        // Before the JWT filter and the routing
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Match the path the way the services will read it: decoded, without empty segments
+     * (double slashes) nor matrix parameters (;...), case-insensitive
+     */
+    static boolean isInternal(String rawPath) {
+        String path = UriUtils.decode(rawPath, StandardCharsets.UTF_8);
+        List<String> segments = Arrays.stream(path.split("/"))
+                .map(segment -> segment.contains(";") ? segment.substring(0, segment.indexOf(';')) : segment)
+                .map(String::trim)
+                .filter(segment -> !segment.isEmpty())
+                .toList();
+        return segments.size() >= 4
+                && segments.get(0).equalsIgnoreCase("api")
+                && segments.get(1).equalsIgnoreCase("v1")
+                && segments.get(3).equalsIgnoreCase(INTERNAL_SEGMENT);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalEndpointFilterTest {
+
+    private final InternalEndpointFilter filter = new InternalEndpointFilter();
+
+    private MockServerWebExchange run(MockServerHttpRequest request, AtomicBoolean forwarded) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        GatewayFilterChain chain = ex -> {
+            forwarded.set(true);
+            return Mono.empty();
+        };
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    @Test
+    void internalEndpointsAreRejected() {
+        for (String path : new String[]{
+                "/api/v1/tasks/internal/projects/1/deleted",
+                "/api/v1/tasks/internal/users/7/changed",
+                "/api/v1/tasks/internal/counters/repair",
+                "/api/v1/users/internal?ids=1,2",
+                "/api/v1/users/internal/7",
+                "/api/v1/projects/internal/3/context",
+                "/api/v1/projects/internal/statuses?projectIds=3"}) {
+            AtomicBoolean forwarded = new AtomicBoolean();
+            MockServerWebExchange exchange = run(MockServerHttpRequest.post(path).build(), forwarded);
+
+            assertThat(exchange.getResponse().getStatusCode()).as(path).isEqualTo(HttpStatus.FORBIDDEN);
+            assertThat(forwarded).as(path).isFalse();
+        }
+    }
+
+    @Test
+    void obfuscatedInternalPathsAreRejected() {
+        assertThat(InternalEndpointFilter.isInternal("/api/v1/tasks//internal/projects/1/deleted")).isTrue();
+        assertThat(InternalEndpointFilter.isInternal("/api/v1/tasks/Internal/projects/1/deleted")).isTrue();
+        assertThat(InternalEndpointFilter.isInternal("/api/v1/tasks/internal;x=1/projects/1/deleted")).isTrue();
+        assertThat(InternalEndpointFilter.isInternal("/api/v1/tasks/%69nternal/projects/1/deleted")).isTrue();
+    }
+
+    @Test
+    void publicEndpointsAreForwarded() {
+        AtomicBoolean forwarded = new AtomicBoolean();
+        MockServerWebExchange exchange = run(MockServerHttpRequest.get("/api/v1/tasks?projectId=1").build(), forwarded);
+
+        assertThat(forwarded).isTrue();
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+        assertThat(InternalEndpointFilter.isInternal("/api/v1/tasks/12")).isFalse();
+        assertThat(InternalEndpointFilter.isInternal("/api/v1/projects/3/statuses")).isFalse();
+    }
+}
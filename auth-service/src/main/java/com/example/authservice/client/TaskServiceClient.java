@@ -0,0 +1,18 @@
+package com.example.authservice.client;
+
+import com.example.authservice.event.UserChangedEvent;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@FeignClient(name = "TASK-SERVICE")
+public interface TaskServiceClient {
+
+    /**
+     * Internal endpoint: applies a user change to Task Service's local user directory
+     * Replaying a change is harmless, older changes are ignored
+     */
+    @PostMapping("/api/v1/tasks/internal/users/{userId}/changed")
+    void notifyUserChanged(@PathVariable("userId") Long userId, @RequestBody UserChangedEvent change);
+}
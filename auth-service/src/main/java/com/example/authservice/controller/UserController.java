@@ -12,6 +12,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
@@ -45,6 +47,17 @@ public class UserController {
         UserResponse user = userService.getUserByIdInternal(userId);
         return ResponseEntity.ok(user);
     }
+
+    /**
+     * Endpoint interne : plusieurs utilisateurs en un appel (annuaire local de Task Service)
+     * GET /api/v1/users/internal?ids=1,2,3 ; les IDs inconnus sont absents de la réponse
+     * NE PAS exposer via API Gateway
+     */
+    @GetMapping("/internal")
+    public ResponseEntity<List<UserResponse>> getUsersByIdsInternal(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsersByIdsInternal(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(
             @PathVariable Long id,
@@ -0,0 +1,56 @@
+package com.example.authservice.event;
+
+import com.example.authservice.client.TaskServiceClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards user changes to Task Service once the transaction is committed
+ * Task Service keeps a local directory of assignee names and avatars fed by these changes
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskServiceNotifier {
+
+    private static final int NOTIFICATION_ATTEMPTS = 5;
+    private static final long RETRY_DELAY_MS = 2000;
+
+    private final TaskServiceClient taskServiceClient;
+
+    /**
+     * Retried: a lost change would leave a stale name or avatar on the tasks
+     * until the user changes again
+     */
+    @Async
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        for (int attempt = 1; attempt <= NOTIFICATION_ATTEMPTS; attempt++) {
+            try {
+                taskServiceClient.notifyUserChanged(event.getUserId(), event);
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to notify Task Service of changes to user {} (attempt {}/{})",
+                        event.getUserId(), attempt, NOTIFICATION_ATTEMPTS, e);
+            }
+            if (attempt < NOTIFICATION_ATTEMPTS && !sleep(RETRY_DELAY_MS * attempt)) {
+                break;
+            }
+        }
+        log.error("Task Service user directory may be stale for user {}; replay POST " +
+                "/api/v1/tasks/internal/users/{}/changed", event.getUserId(), event.getUserId());
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.authservice.event;
+
+import com.example.authservice.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a user's public profile changes (registration, name, avatar, status, deletion)
+ * Carries the profile itself so replicas can apply it without calling back;
+ * changedAt orders the changes of one user, an older change never overwrites a newer one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangedEvent {
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String avatarUrl;
+    private Boolean active;
+    private boolean deleted;
+    private LocalDateTime changedAt;
+
+    public static UserChangedEvent updated(User user) {
+        return new UserChangedEvent(user.getId(), user.getFirstName(), user.getLastName(), user.getAvatarUrl(),
+                user.getIsActive(), false, LocalDateTime.now());
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(userId, null, null, null, false, true, LocalDateTime.now());
+    }
+}
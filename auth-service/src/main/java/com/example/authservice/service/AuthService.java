@@ -6,10 +6,12 @@ import com.example.authservice.dto.RegisterRequest;
 import com.example.authservice.dto.UserResponse;
 import com.example.authservice.entity.Role;
 import com.example.authservice.entity.User;
+import com.example.authservice.event.UserChangedEvent;
 import com.example.authservice.exception.BadRequestException;
 import com.example.authservice.repository.UserRepository;
 import com.example.authservice.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -39,6 +42,7 @@ public class AuthService {
         user.setIsActive(true);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
 
         // Generate JWT token
         String token = jwtTokenProvider.generateToken(savedUser);
@@ -5,22 +5,29 @@ import com.example.authservice.dto.UpdateUserRequest;
 import com.example.authservice.dto.UserResponse;
 import com.example.authservice.entity.Role;
 import com.example.authservice.entity.User;
+import com.example.authservice.event.UserChangedEvent;
 import com.example.authservice.exception.BadRequestException;
 import com.example.authservice.exception.ForbiddenException;
 import com.example.authservice.exception.ResourceNotFoundException;
 import com.example.authservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long userId, Long requesterId, String requesterRole) {
@@ -49,6 +56,16 @@ public class UserService {
         return mapToUserResponse(user);
     }
 
+    /**
+     * Internal batch lookup: users that do not exist are simply absent from the result
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> getUsersByIdsInternal(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .map(this::mapToUserResponse)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(String requesterRole, Pageable pageable) {
         // Only admins can view all users
@@ -69,6 +86,10 @@ public class UserService {
             throw new ForbiddenException("You don't have permission to update this user");
         }
 
+        String previousFirstName = user.getFirstName();
+        String previousLastName = user.getLastName();
+        String previousAvatarUrl = user.getAvatarUrl();
+
         // Update fields if provided
         if (request.getFirstName() != null) {
             user.setFirstName(request.getFirstName());
@@ -77,7 +98,8 @@ public class UserService {
             user.setLastName(request.getLastName());
         }
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
+            // Changer seulement la casse de sa propre adresse reste permis
+            if (!request.getEmail().equalsIgnoreCase(user.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
                 throw new BadRequestException("Email already exists");
             }
             user.setEmail(request.getEmail());
@@ -87,6 +109,13 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+
+        // Only the public profile (name, avatar) is replicated to other services
+        if (!Objects.equals(previousFirstName, updatedUser.getFirstName())
+                || !Objects.equals(previousLastName, updatedUser.getLastName())
+                || !Objects.equals(previousAvatarUrl, updatedUser.getAvatarUrl())) {
+            eventPublisher.publishEvent(UserChangedEvent.updated(updatedUser));
+        }
         return mapToUserResponse(updatedUser);
     }
 
@@ -121,6 +150,7 @@ public class UserService {
         }
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userId));
     }
 
     @Transactional
@@ -135,6 +165,7 @@ public class UserService {
 
         user.setIsActive(!user.getIsActive());
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
     }
 
     @Transactional
@@ -0,0 +1,16 @@
+-- Schéma initial, identique à celui créé jusqu'ici par Hibernate (ddl-auto: update)
+-- IF NOT EXISTS : une base existante est reprise telle quelle (baseline-on-migrate, version 0)
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name  VARCHAR(50)  NOT NULL,
+    last_name   VARCHAR(50)  NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    avatar_url  VARCHAR(255),
+    role        VARCHAR(255) NOT NULL,
+    is_active   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
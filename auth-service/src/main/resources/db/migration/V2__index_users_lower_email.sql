@@ -0,0 +1,2 @@
+-- Connexion et inscription comparent les emails sans tenir compte de la casse
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (lower(email));
@@ -0,0 +1,21 @@
+-- Unicité des emails sans tenir compte de la casse, comme la connexion et l'inscription
+-- Doublons existants (A@x.com / a@x.com) : aucun compte n'est modifié, la migration s'arrête
+-- en listant les comptes en conflit ; les fusionner ou corriger leur email, puis relancer le service
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(lower(email) || ' (ids ' || ids || ')', '; ' ORDER BY lower(email))
+    INTO conflicts
+    FROM (SELECT lower(email) AS email, string_agg(id::text, ', ' ORDER BY id) AS ids
+          FROM users
+          GROUP BY lower(email)
+          HAVING count(*) > 1) duplicates;
+
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Emails used by several accounts (case-insensitive), resolve them before migrating: %', conflicts;
+    END IF;
+END $$;
+
+DROP INDEX IF EXISTS idx_users_email_lower;
+CREATE UNIQUE INDEX idx_users_email_lower ON users (lower(email));
@@ -1,7 +1,8 @@
 export interface Task {
   id: number;
   title: string;
-  description?: string;
+  description?: string; // only on a task loaded by id (getTaskById)
+  descriptionPreview?: string; // lists and board: beginning of the description
   status: TaskStatus;
   priority: Priority;
   dueDate?: Date;
@@ -242,17 +242,26 @@ export class KanbanBoardComponent implements OnInit {
 
   /**
    * Open task detail dialog
+   * Board cards carry only a description preview: load the full task first,
+   * so the detail view and the edit form get the whole description
    */
   onTaskClick(task: Task): void {
-    const dialogRef = this.dialog.open(TaskDetailComponent, {
-      width: '700px',
-      maxWidth: '90vw',
-      data: { task, projectId: this.projectId }
-    });
-
-    dialogRef.afterClosed().subscribe(result => {
-      if (result?.deleted || result?.updated) {
-        this.loadTasks();
+    this.taskService.getTaskById(task.id).subscribe({
+      next: (fullTask) => {
+        const dialogRef = this.dialog.open(TaskDetailComponent, {
+          width: '700px',
+          maxWidth: '90vw',
+          data: { task: fullTask, projectId: this.projectId }
+        });
+
+        dialogRef.afterClosed().subscribe(result => {
+          if (result?.deleted || result?.updated) {
+            this.loadTasks();
+          }
+        });
+      },
+      error: () => {
+        this.snackBar.open('Erreur lors du chargement de la tâche', 'Fermer', { duration: 3000 });
       }
     });
   }
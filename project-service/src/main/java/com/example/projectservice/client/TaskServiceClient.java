@@ -3,11 +3,57 @@ package com.example.projectservice.client;
 import com.example.projectservice.entity.TaskStatsDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Map;
+
 @FeignClient(name = "TASK-SERVICE")
 public interface TaskServiceClient {
 
+    /**
+     * Statistiques des tâches du projet, calculées pour l'utilisateur appelant
+     */
     @GetMapping("/api/v1/tasks/stats")
-    TaskStatsDTO getTaskStatsByProject(@RequestParam("projectId") Long projectId);
+    TaskStatsDTO getTaskStatsByProject(@RequestParam("projectId") Long projectId,
+                                       @RequestHeader("X-User-Id") Long userId,
+                                       @RequestHeader("X-User-Role") String role);
+
+    /**
+     * Endpoint interne : nombre de tâches de chaque statut du projet (clé = ID du statut)
+     */
+    @GetMapping("/api/v1/tasks/internal/projects/{projectId}/status-counts")
+    Map<Long, Long> getStatusTaskCounts(@PathVariable("projectId") Long projectId);
+
+    /**
+     * Endpoint interne : invalide le cache des statuts du projet
+     */
+    @PostMapping("/api/v1/tasks/internal/projects/{projectId}/statuses/changed")
+    void notifyStatusesChanged(@PathVariable("projectId") Long projectId);
+
+    /**
+     * Endpoint interne : un statut a été supprimé, ses tâches sont déplacées vers moveToStatusId
+     * Le déplacement est asynchrone ; rejouer l'appel est sans risque
+     */
+    @PostMapping("/api/v1/tasks/internal/projects/{projectId}/statuses/{statusId}/deleted")
+    void notifyStatusDeleted(@PathVariable("projectId") Long projectId,
+                             @PathVariable("statusId") Long statusId,
+                             @RequestParam("moveToStatusId") Long moveToStatusId);
+
+    /**
+     * Endpoint interne : le projet a été supprimé, ses tâches sont supprimées par lots
+     * La suppression est asynchrone ; rejouer l'appel est sans risque
+     */
+    @PostMapping("/api/v1/tasks/internal/projects/{projectId}/deleted")
+    void notifyProjectDeleted(@PathVariable("projectId") Long projectId);
+
+    /**
+     * Endpoint interne : invalide les décisions d'accès en cache pour le projet
+     * userId absent = tous les utilisateurs du projet
+     */
+    @PostMapping("/api/v1/tasks/internal/projects/{projectId}/members/changed")
+    void notifyMembershipChanged(@PathVariable("projectId") Long projectId,
+                                 @RequestParam(value = "userId", required = false) Long userId);
 }
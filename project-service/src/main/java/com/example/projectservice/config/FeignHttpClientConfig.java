@@ -0,0 +1,45 @@
+package com.example.projectservice.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HTTP client shared by the Feign clients (Auth Service, Task Service)
+ * - Apache HttpClient 5 pool built by Spring Cloud OpenFeign (spring.cloud.openfeign.httpclient.*):
+ *   total and per-route limits, connection time to live, wait for a free connection
+ * - Connect and read timeouts: spring.cloud.openfeign.client.config.default
+ * - Gzip responses are decoded by HttpClient, which sends Accept-Encoding
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    /**
+     * Close idle keep-alive connections before the server drops them,
+     * so that a connection already closed on the other side is never reused
+     */
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer feignIdleConnectionEviction(
+            @Value("${app.feign.idle-eviction-seconds:15}") long idleSeconds) {
+        return builder -> builder.evictIdleConnections(TimeValue.ofSeconds(idleSeconds));
+    }
+
+    /**
+     * Pool usage exported to Micrometer: httpcomponents.httpclient.pool.*
+     * (leased, available and pending connections), tagged httpclient=feign
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager connectionManager) {
+        if (!(connectionManager instanceof PoolingHttpClientConnectionManager pool)) {
+            return registry -> {
+            };
+        }
+        return new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign");
+    }
+}
@@ -60,6 +60,20 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    /**
+     * Access decision, ordered statuses and context version of a project in one call
+     * Internal endpoint used by Task Service instead of separate access and status lookups
+     * Rejected by the API Gateway (InternalEndpointFilter)
+     */
+    @GetMapping("/internal/{id}/context")
+    public ResponseEntity<ProjectContextResponse> getProjectContext(
+            @PathVariable Long id,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role) {
+        ProjectContextResponse context = projectService.getProjectContext(id, userId, role);
+        return ResponseEntity.ok(context);
+    }
+
     /**
      * Update a project
      * Only the project owner or admin can update
@@ -11,10 +11,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 
 @RestController
-@RequestMapping("/api/v1/projects/{projectId}/statuses")
+@RequestMapping("/api/v1/projects")
 @RequiredArgsConstructor
 public class TaskStatusController {
 
@@ -24,7 +25,7 @@ public class TaskStatusController {
      * GET /api/v1/projects/{projectId}/statuses
      * Get all statuses for a project (ordered by position)
      */
-    @GetMapping
+    @GetMapping("/{projectId}/statuses")
     public ResponseEntity<List<TaskStatusResponse>> getProjectStatuses(
             @PathVariable Long projectId,
             @RequestHeader("X-User-Id") Long userId,
@@ -34,11 +35,38 @@ public class TaskStatusController {
         return ResponseEntity.ok(statuses);
     }
 
+    /**
+     * GET /api/v1/projects/statuses?projectIds=1&projectIds=2
+     * Get the statuses of several projects in one call, grouped by project ID
+     * Used by Task Service to enrich cross-project task lists
+     */
+    @GetMapping("/statuses")
+    public ResponseEntity<Map<Long, List<TaskStatusResponse>>> getStatusesForProjects(
+            @RequestParam List<Long> projectIds,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role) {
+
+        Map<Long, List<TaskStatusResponse>> statuses = taskStatusService.getStatusesForProjects(projectIds, userId, role);
+        return ResponseEntity.ok(statuses);
+    }
+
+    /**
+     * GET /api/v1/projects/internal/statuses?projectIds=1&projectIds=2
+     * Internal endpoint: statuses of several projects without a user, for Task Service background jobs
+     * Rejected by the API Gateway (InternalEndpointFilter)
+     */
+    @GetMapping("/internal/statuses")
+    public ResponseEntity<Map<Long, List<TaskStatusResponse>>> getStatusesForProjectsInternal(
+            @RequestParam List<Long> projectIds) {
+
+        return ResponseEntity.ok(taskStatusService.getStatusesForProjectsInternal(projectIds));
+    }
+
     /**
      * GET /api/v1/projects/{projectId}/statuses/{statusId}
      * Get a single status by ID
      */
-    @GetMapping("/{statusId}")
+    @GetMapping("/{projectId}/statuses/{statusId}")
     public ResponseEntity<TaskStatusResponse> getStatusById(
             @PathVariable Long projectId,
             @PathVariable Long statusId,
@@ -59,7 +87,7 @@ public class TaskStatusController {
      *   "color": "#9c27b0"
      * }
      */
-    @PostMapping
+    @PostMapping("/{projectId}/statuses")
     public ResponseEntity<TaskStatusResponse> createStatus(
             @PathVariable Long projectId,
             @Valid @RequestBody com.example.projectservice.dto.TaskStatusRequest request,
@@ -80,7 +108,7 @@ public class TaskStatusController {
      *   "color": "#e91e63"
      * }
      */
-    @PutMapping("/{statusId}")
+    @PutMapping("/{projectId}/statuses/{statusId}")
     public ResponseEntity<TaskStatusResponse> updateStatus(
             @PathVariable Long projectId,
             @PathVariable Long statusId,
@@ -100,7 +128,7 @@ public class TaskStatusController {
      *
      * Example: DELETE /api/v1/projects/1/statuses/5?moveToStatusId=2
      */
-    @DeleteMapping("/{statusId}")
+    @DeleteMapping("/{projectId}/statuses/{statusId}")
     public ResponseEntity<Void> deleteStatus(
             @PathVariable Long projectId,
             @PathVariable Long statusId,
@@ -121,7 +149,7 @@ public class TaskStatusController {
      *   "statusIds": [2, 1, 3, 4]
      * }
      */
-    @PutMapping("/reorder")
+    @PutMapping("/{projectId}/statuses/reorder")
     public ResponseEntity<List<TaskStatusResponse>> reorderStatuses(
             @PathVariable Long projectId,
             @Valid @RequestBody ReorderStatusRequest request,
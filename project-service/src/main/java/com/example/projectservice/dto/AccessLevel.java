@@ -0,0 +1,11 @@
+package com.example.projectservice.dto;
+
+/**
+ * Why a user can (or cannot) access a project
+ */
+public enum AccessLevel {
+    ADMIN,
+    OWNER,
+    MEMBER,
+    NONE
+}
@@ -0,0 +1,17 @@
+package com.example.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAccessResponse {
+    private Long projectId;
+    private Long userId;
+    private AccessLevel accessLevel;
+    private boolean granted;
+}
@@ -0,0 +1,24 @@
+package com.example.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything Task Service needs about a project for one request:
+ * the caller's access decision, the ordered statuses and the context version
+ * Statuses are left empty when access is not granted
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectContextResponse {
+    private Long projectId;
+    private ProjectAccessResponse access;
+    private List<TaskStatusResponse> statuses;
+    private Long version;
+}
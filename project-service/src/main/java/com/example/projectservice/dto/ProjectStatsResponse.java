@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,5 +18,9 @@ public class ProjectStatsResponse {
     private Integer todoTasks;
     private Integer inProgressTasks;
     private Integer doneTasks;
+    /**
+     * Task count of every column, keyed by status ID
+     */
+    private Map<Long, Integer> tasksByStatus;
     private Integer totalMembers;
 }
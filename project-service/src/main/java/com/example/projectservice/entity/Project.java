@@ -45,6 +45,10 @@ public class Project {
     @Column(nullable = false)
     private Long ownerId;
 
+    // Written only by ProjectRepository.bumpContextVersion, never by a dirty-checked update
+    @Column(nullable = false, updatable = false)
+    private Long contextVersion = 0L;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProjectMember> members = new HashSet<>();
 
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,4 +17,8 @@ public class TaskStatsDTO {
     private Integer todoTasks;
     private Integer inProgressTasks;
     private Integer doneTasks;
+    /**
+     * Task count of every column, keyed by status ID
+     */
+    private Map<Long, Integer> tasksByStatus;
 }
@@ -0,0 +1,15 @@
+package com.example.projectservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a user joins or leaves a project
+ * userId is null when the whole project is affected (e.g. project deleted)
+ */
+@Data
+@AllArgsConstructor
+public class MembershipChangedEvent {
+    private Long projectId;
+    private Long userId;
+}
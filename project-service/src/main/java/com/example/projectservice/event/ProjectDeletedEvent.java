@@ -0,0 +1,13 @@
+package com.example.projectservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a project is deleted; Task Service deletes its tasks
+ */
+@Data
+@AllArgsConstructor
+public class ProjectDeletedEvent {
+    private Long projectId;
+}
@@ -0,0 +1,15 @@
+package com.example.projectservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a status is deleted; its tasks must move to moveToStatusId
+ */
+@Data
+@AllArgsConstructor
+public class StatusDeletedEvent {
+    private Long projectId;
+    private Long statusId;
+    private Long moveToStatusId;
+}
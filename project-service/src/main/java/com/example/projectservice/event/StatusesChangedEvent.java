@@ -0,0 +1,14 @@
+package com.example.projectservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when the statuses (Kanban columns) of a project are created,
+ * updated, deleted or reordered
+ */
+@Data
+@AllArgsConstructor
+public class StatusesChangedEvent {
+    private Long projectId;
+}
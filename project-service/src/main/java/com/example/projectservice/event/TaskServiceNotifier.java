@@ -0,0 +1,102 @@
+package com.example.projectservice.event;
+
+import com.example.projectservice.client.TaskServiceClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards project events to Task Service once the transaction is committed
+ * Task Service keeps local caches that depend on this data, and moves or deletes
+ * the tasks of deleted statuses and projects
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskServiceNotifier {
+
+    private static final int NOTIFICATION_ATTEMPTS = 5;
+    private static final long RETRY_DELAY_MS = 2000;
+
+    private final TaskServiceClient taskServiceClient;
+
+    @Async
+    @TransactionalEventListener
+    public void onStatusesChanged(StatusesChangedEvent event) {
+        try {
+            taskServiceClient.notifyStatusesChanged(event.getProjectId());
+        } catch (Exception e) {
+            // Task Service cache entries still expire on their own TTL
+            log.warn("Failed to notify Task Service of status changes for project {}", event.getProjectId(), e);
+        }
+    }
+
+    /**
+     * Without this notification the tasks of the deleted status would stay orphaned,
+     * so it is retried; Task Service treats a repeated notification as the same migration
+     */
+    @Async
+    @TransactionalEventListener
+    public void onStatusDeleted(StatusDeletedEvent event) {
+        boolean delivered = notifyWithRetry("the deletion of status " + event.getStatusId(), () ->
+                taskServiceClient.notifyStatusDeleted(event.getProjectId(), event.getStatusId(), event.getMoveToStatusId()));
+        if (!delivered) {
+            log.error("Tasks of deleted status {} were not moved to status {}; replay POST " +
+                            "/api/v1/tasks/internal/projects/{}/statuses/{}/deleted?moveToStatusId={}",
+                    event.getStatusId(), event.getMoveToStatusId(),
+                    event.getProjectId(), event.getStatusId(), event.getMoveToStatusId());
+        }
+    }
+
+    /**
+     * Retried like status deletions: without it the project's tasks are never deleted
+     */
+    @Async
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        boolean delivered = notifyWithRetry("the deletion of project " + event.getProjectId(), () ->
+                taskServiceClient.notifyProjectDeleted(event.getProjectId()));
+        if (!delivered) {
+            log.error("Tasks of deleted project {} were not deleted; replay POST " +
+                    "/api/v1/tasks/internal/projects/{}/deleted", event.getProjectId(), event.getProjectId());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        try {
+            taskServiceClient.notifyMembershipChanged(event.getProjectId(), event.getUserId());
+        } catch (Exception e) {
+            // Task Service access decisions still expire on their own TTL
+            log.warn("Failed to notify Task Service of membership changes for project {}", event.getProjectId(), e);
+        }
+    }
+
+    private boolean notifyWithRetry(String change, Runnable notification) {
+        for (int attempt = 1; attempt <= NOTIFICATION_ATTEMPTS; attempt++) {
+            try {
+                notification.run();
+                return true;
+            } catch (Exception e) {
+                log.warn("Failed to notify Task Service of {} (attempt {}/{})", change, attempt, NOTIFICATION_ATTEMPTS, e);
+            }
+            if (attempt < NOTIFICATION_ATTEMPTS && !sleep(RETRY_DELAY_MS * attempt)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
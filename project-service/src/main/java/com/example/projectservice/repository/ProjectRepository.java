@@ -5,10 +5,14 @@ import com.example.projectservice.entity.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
@@ -24,6 +28,16 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             "WHERE p.ownerId = :userId OR m.userId = :userId")
     Page<Project> findByOwnerIdOrMemberId(@Param("userId") Long userId, Pageable pageable);
 
+    // Among the given projects, those the user owns or is a member of
+    @Query("SELECT DISTINCT p.id FROM Project p LEFT JOIN p.members m " +
+            "WHERE p.id IN :projectIds AND (p.ownerId = :userId OR m.userId = :userId)")
+    List<Long> findIdsAccessibleBy(@Param("projectIds") Collection<Long> projectIds, @Param("userId") Long userId);
+
+    // Bump the context version read by Task Service (statuses or members changed)
+    @Modifying
+    @Query("UPDATE Project p SET p.contextVersion = p.contextVersion + 1 WHERE p.id = :projectId")
+    int bumpContextVersion(@Param("projectId") Long projectId);
+
     // Find by status
     Page<Project> findByStatus(ProjectStatus status, Pageable pageable);
 
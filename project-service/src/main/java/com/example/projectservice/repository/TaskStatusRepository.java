@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,11 @@ public interface TaskStatusRepository extends JpaRepository<TaskStatusEntity, Lo
      */
     List<TaskStatusEntity> findByProjectIdOrderByPositionAsc(Long projectId);
 
+    /**
+     * Find all statuses of several projects, ordered by position
+     */
+    List<TaskStatusEntity> findByProjectIdInOrderByPositionAsc(Collection<Long> projectIds);
+
     /**
      * Find status by project and name
      */
@@ -0,0 +1,40 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.event.MembershipChangedEvent;
+import com.example.projectservice.event.StatusDeletedEvent;
+import com.example.projectservice.event.StatusesChangedEvent;
+import com.example.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bump the context version of a project whenever what Task Service caches changes
+ * Runs inside the transaction that publishes the event, so the new version
+ * is committed together with the statuses or members it describes
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectContextVersions {
+
+    private final ProjectRepository projectRepository;
+
+    @EventListener
+    @Transactional
+    public void onStatusesChanged(StatusesChangedEvent event) {
+        projectRepository.bumpContextVersion(event.getProjectId());
+    }
+
+    @EventListener
+    @Transactional
+    public void onStatusDeleted(StatusDeletedEvent event) {
+        projectRepository.bumpContextVersion(event.getProjectId());
+    }
+
+    @EventListener
+    @Transactional
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        projectRepository.bumpContextVersion(event.getProjectId());
+    }
+}
@@ -7,6 +7,8 @@ import com.example.projectservice.entity.Project;
 import com.example.projectservice.entity.ProjectMember;
 import com.example.projectservice.entity.ProjectStatus;
 import com.example.projectservice.entity.TaskStatsDTO;
+import com.example.projectservice.event.MembershipChangedEvent;
+import com.example.projectservice.event.ProjectDeletedEvent;
 import com.example.projectservice.exception.BadRequestException;
 import com.example.projectservice.exception.ForbiddenException;
 import com.example.projectservice.exception.ResourceNotFoundException;
@@ -14,6 +16,7 @@ import com.example.projectservice.repository.ProjectMemberRepository;
 import com.example.projectservice.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +37,7 @@ public class ProjectService {
     private final AuthServiceClient authServiceClient;
     private final TaskServiceClient taskServiceClient;
     private final TaskStatusService taskStatusService;  // ← CHANGED: Use TaskStatusService directly
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Créer un nouveau projet
@@ -98,6 +103,27 @@ public class ProjectService {
         return mapToProjectResponse(project, userId, role);
     }
 
+    /**
+     * Contexte d'un projet pour Task Service, en un seul appel
+     * - Décision d'accès, statuts ordonnés (sans compteurs) et version du contexte
+     * - Statuts omis si l'accès est refusé
+     * - La version change avec les statuts et les membres : Task Service s'en sert pour ses caches
+     */
+    @Transactional(readOnly = true)
+    public ProjectContextResponse getProjectContext(Long projectId, Long userId, String role) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+
+        ProjectAccessResponse access = accessDecision(projectId, project.getOwnerId(), userId, role);
+
+        return ProjectContextResponse.builder()
+                .projectId(projectId)
+                .access(access)
+                .statuses(access.isGranted() ? taskStatusService.getStatusesWithoutCounts(projectId) : List.of())
+                .version(project.getContextVersion())
+                .build();
+    }
+
     /**
      * Mettre à jour un projet
      * - Seulement le owner ou ADMIN
@@ -142,6 +168,7 @@ public class ProjectService {
      * Supprimer un projet
      * - Seulement le owner ou ADMIN
      * - Les statuts seront supprimés automatiquement (CASCADE DELETE)
+     * - Les tâches sont supprimées par Task Service en tâche de fond, après le commit
      */
     @Transactional
     public void deleteProject(Long projectId, Long userId, String role) {
@@ -154,9 +181,7 @@ public class ProjectService {
 
         projectRepository.delete(project);
         log.info("Project {} deleted successfully (task statuses cascade deleted)", projectId);
-
-        // OPTIONAL: Publish event for Task Service to clean up tasks
-        // eventPublisher.publishEvent(new ProjectDeletedEvent(projectId));
+        eventPublisher.publishEvent(new ProjectDeletedEvent(projectId));
     }
 
     /**
@@ -199,6 +224,7 @@ public class ProjectService {
 
         log.info("User {} added to project {} by {} (role: {})",
                 request.getUserId(), projectId, requesterId, role);
+        eventPublisher.publishEvent(new MembershipChangedEvent(projectId, request.getUserId()));
 
         return mapToMemberResponse(savedMember, user);
     }
@@ -268,6 +294,7 @@ public class ProjectService {
 
         log.info("User {} removed from project {} by {} (role: {})",
                 memberId, projectId, requesterId, role);
+        eventPublisher.publishEvent(new MembershipChangedEvent(projectId, memberId));
     }
 
     /**
@@ -297,6 +324,7 @@ public class ProjectService {
         ProjectMember savedMember = memberRepository.save(member);
 
         log.info("User {} added to project {} via invitation", userId, projectId);
+        eventPublisher.publishEvent(new MembershipChangedEvent(projectId, userId));
 
         return mapToMemberResponse(savedMember, user);
     }
@@ -316,7 +344,7 @@ public class ProjectService {
         // Get task stats from Task Service
         TaskStatsDTO taskStats;
         try {
-            taskStats = taskServiceClient.getTaskStatsByProject(projectId);
+            taskStats = taskServiceClient.getTaskStatsByProject(projectId, userId, role);
         } catch (Exception e) {
             log.error("Failed to fetch task stats for project {}", projectId, e);
             taskStats = TaskStatsDTO.builder()
@@ -325,6 +353,7 @@ public class ProjectService {
                     .todoTasks(0)
                     .inProgressTasks(0)
                     .doneTasks(0)
+                    .tasksByStatus(Map.of())
                     .build();
         }
 
@@ -337,6 +366,7 @@ public class ProjectService {
                 .todoTasks(taskStats.getTodoTasks())
                 .inProgressTasks(taskStats.getInProgressTasks())
                 .doneTasks(taskStats.getDoneTasks())
+                .tasksByStatus(taskStats.getTasksByStatus())
                 .totalMembers(memberCount.intValue() + 1) // +1 for owner
                 .build();
     }
@@ -431,4 +461,27 @@ public class ProjectService {
                 .joinedAt(member.getJoinedAt())
                 .build();
     }
+
+    /**
+     * Décision d'accès (admin / owner / membre) sans charger les membres
+     */
+    private ProjectAccessResponse accessDecision(Long projectId, Long ownerId, Long userId, String role) {
+        AccessLevel accessLevel;
+        if ("ADMIN".equals(role)) {
+            accessLevel = AccessLevel.ADMIN;
+        } else if (ownerId.equals(userId)) {
+            accessLevel = AccessLevel.OWNER;
+        } else if (memberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            accessLevel = AccessLevel.MEMBER;
+        } else {
+            accessLevel = AccessLevel.NONE;
+        }
+
+        return ProjectAccessResponse.builder()
+                .projectId(projectId)
+                .userId(userId)
+                .accessLevel(accessLevel)
+                .granted(accessLevel != AccessLevel.NONE)
+                .build();
+    }
 }
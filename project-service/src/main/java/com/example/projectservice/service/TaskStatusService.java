@@ -1,9 +1,12 @@
 package com.example.projectservice.service;
 
+import com.example.projectservice.client.TaskServiceClient;
 import com.example.projectservice.dto.TaskStatusRequest;
 import com.example.projectservice.dto.TaskStatusResponse;
 import com.example.projectservice.entity.Project;
 import com.example.projectservice.entity.TaskStatusEntity;
+import com.example.projectservice.event.StatusDeletedEvent;
+import com.example.projectservice.event.StatusesChangedEvent;
 import com.example.projectservice.exception.BadRequestException;
 import com.example.projectservice.exception.ForbiddenException;
 import com.example.projectservice.exception.ResourceNotFoundException;
@@ -12,14 +15,19 @@ import com.example.projectservice.repository.TaskStatusRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing task statuses (Kanban columns)
+ * Task counts come from Task Service: they are fetched outside any transaction,
+ * so a slow Task Service never holds a database connection or row locks
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +36,9 @@ public class TaskStatusService {
 
     private final TaskStatusRepository statusRepository;
     private final ProjectRepository projectRepository;
+    private final TaskServiceClient taskServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Initialize default statuses for a new project
@@ -58,28 +69,77 @@ public class TaskStatusService {
     /**
      * Get all statuses for a project (ordered by position)
      */
-    @Transactional(readOnly = true)
     public List<TaskStatusResponse> getProjectStatuses(Long projectId, Long userId, String role) {
         verifyProjectAccess(projectId, userId, role);
 
         List<TaskStatusEntity> statuses = statusRepository.findByProjectIdOrderByPositionAsc(projectId);
+        Map<Long, Long> taskCounts = fetchTaskCounts(projectId);
 
         return statuses.stream()
-                .map(this::mapToResponse)
+                .map(status -> mapToResponse(status, taskCounts))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get a single status by ID
+     * Get the statuses of several projects in one query, grouped by project ID
+     * Each list is ordered by position; unknown projects and projects the user is not
+     * owner or member of (unless ADMIN) are left out
+     * Task counts are not fetched (taskCount is null): this is used by Task Service itself
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TaskStatusResponse>> getStatusesForProjects(List<Long> projectIds, Long userId, String role) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> visibleIds = "ADMIN".equals(role)
+                ? projectIds
+                : projectRepository.findIdsAccessibleBy(projectIds, userId);
+        if (visibleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return getStatusesForProjectsInternal(visibleIds);
+    }
+
+    /**
+     * Get the statuses of several projects without any access check, grouped by project ID
+     * Internal: used by Task Service jobs, which act for no user
      */
     @Transactional(readOnly = true)
+    public Map<Long, List<TaskStatusResponse>> getStatusesForProjectsInternal(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<TaskStatusEntity> statuses = statusRepository.findByProjectIdInOrderByPositionAsc(projectIds);
+
+        return statuses.stream()
+                .map(status -> mapToResponse(status, null))
+                .collect(Collectors.groupingBy(TaskStatusResponse::getProjectId));
+    }
+
+    /**
+     * Statuses of a project ordered by position, without task counts (taskCount is null)
+     * Part of the project context read by Task Service, which owns the counts
+     */
+    @Transactional(readOnly = true)
+    public List<TaskStatusResponse> getStatusesWithoutCounts(Long projectId) {
+        return statusRepository.findByProjectIdOrderByPositionAsc(projectId).stream()
+                .map(status -> mapToResponse(status, null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get a single status by ID
+     */
     public TaskStatusResponse getStatusById(Long projectId, Long statusId, Long userId, String role) {
         verifyProjectAccess(projectId, userId, role);
 
         TaskStatusEntity status = statusRepository.findByIdAndProjectId(statusId, projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found"));
 
-        return mapToResponse(status);
+        return mapToResponse(status, fetchTaskCounts(projectId));
     }
 
     /**
@@ -112,16 +172,26 @@ public class TaskStatusService {
 
         TaskStatusEntity savedStatus = statusRepository.save(status);
         log.info("Created custom status '{}' for project {}", request.getName(), projectId);
+        eventPublisher.publishEvent(new StatusesChangedEvent(projectId));
 
-        return mapToResponse(savedStatus);
+        // Nouvelle colonne : aucune tâche
+        return mapToResponse(savedStatus, Map.of());
     }
 
     /**
      * Update a status (name and/or color)
+     * Task counts are fetched once the update is committed
      */
-    @Transactional
     public TaskStatusResponse updateStatus(Long projectId, Long statusId, TaskStatusRequest request,
                                            Long userId, String role) {
+        TaskStatusEntity updatedStatus = transactionTemplate.execute(tx ->
+                saveStatus(projectId, statusId, request, userId, role));
+
+        return mapToResponse(updatedStatus, fetchTaskCounts(projectId));
+    }
+
+    private TaskStatusEntity saveStatus(Long projectId, Long statusId, TaskStatusRequest request,
+                                        Long userId, String role) {
         TaskStatusEntity status = statusRepository.findByIdAndProjectId(statusId, projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found"));
 
@@ -144,13 +214,15 @@ public class TaskStatusService {
 
         TaskStatusEntity updatedStatus = statusRepository.save(status);
         log.info("Updated status {} to '{}'", statusId, request.getName());
+        eventPublisher.publishEvent(new StatusesChangedEvent(projectId));
 
-        return mapToResponse(updatedStatus);
+        return updatedStatus;
     }
 
     /**
      * Delete a status
-     * Note: In microservices, Task Service will need to handle moving tasks
+     * Its tasks are moved to moveToStatusId by Task Service in the background,
+     * progress is available at GET /api/v1/tasks/status-migrations/{statusId}
      */
     @Transactional
     public void deleteStatus(Long projectId, Long statusId, Long moveToStatusId, Long userId, String role) {
@@ -178,22 +250,31 @@ public class TaskStatusService {
             throw new BadRequestException("Cannot move tasks to the same status being deleted");
         }
 
-        // Delete the status
+        // Delete the status; Task Service moves its tasks once the deletion is committed
         statusRepository.delete(status);
+        eventPublisher.publishEvent(new StatusDeletedEvent(projectId, statusId, moveToStatusId));
 
-        // TODO: Publish event for Task Service to migrate tasks
-        // Example: eventPublisher.publishEvent(new StatusDeletedEvent(statusId, moveToStatusId, projectId));
-
-        log.info("Deleted status {} from project {}, tasks should move to status {}",
+        log.info("Deleted status {} from project {}, tasks will move to status {}",
                 statusId, projectId, moveToStatusId);
     }
 
     /**
      * Reorder statuses (drag and drop columns)
+     * Task counts are fetched once the new order is committed
      */
-    @Transactional
     public List<TaskStatusResponse> reorderStatuses(Long projectId, List<Long> statusIds,
                                                     Long userId, String role) {
+        List<TaskStatusEntity> updatedStatuses = transactionTemplate.execute(tx ->
+                savePositions(projectId, statusIds, userId, role));
+
+        Map<Long, Long> taskCounts = fetchTaskCounts(projectId);
+        return updatedStatuses.stream()
+                .sorted((a, b) -> a.getPosition().compareTo(b.getPosition()))
+                .map(status -> mapToResponse(status, taskCounts))
+                .collect(Collectors.toList());
+    }
+
+    private List<TaskStatusEntity> savePositions(Long projectId, List<Long> statusIds, Long userId, String role) {
         Project project = verifyProjectAccess(projectId, userId, role);
 
         // Only project owner or admin can reorder statuses
@@ -222,11 +303,9 @@ public class TaskStatusService {
 
         List<TaskStatusEntity> updatedStatuses = statusRepository.saveAll(statuses);
         log.info("Reordered statuses for project {}", projectId);
+        eventPublisher.publishEvent(new StatusesChangedEvent(projectId));
 
-        return updatedStatuses.stream()
-                .sorted((a, b) -> a.getPosition().compareTo(b.getPosition()))
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return updatedStatuses;
     }
 
     /**
@@ -243,10 +322,25 @@ public class TaskStatusService {
         return project;
     }
 
+    /**
+     * Task count of each status of the project, from Task Service's counter table
+     * Never called inside a transaction; if Task Service is unavailable the counts
+     * are not reported (null, taskCount left empty) rather than shown as 0
+     */
+    private Map<Long, Long> fetchTaskCounts(Long projectId) {
+        try {
+            return taskServiceClient.getStatusTaskCounts(projectId);
+        } catch (Exception e) {
+            log.warn("Failed to fetch task counts for project {}: {}", projectId, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Map entity to response DTO
+     * taskCounts null = counts not fetched
      */
-    private TaskStatusResponse mapToResponse(TaskStatusEntity status) {
+    private TaskStatusResponse mapToResponse(TaskStatusEntity status, Map<Long, Long> taskCounts) {
         return TaskStatusResponse.builder()
                 .id(status.getId())
                 .name(status.getName())
@@ -254,7 +348,7 @@ public class TaskStatusService {
                 .projectId(status.getProjectId())
                 .position(status.getPosition())
                 .isDefault(status.getIsDefault())
-                .taskCount(0) // Task Service will provide this if needed
+                .taskCount(taskCounts != null ? taskCounts.getOrDefault(status.getId(), 0L).intValue() : null)
                 .build();
     }
 }
\ No newline at end of file
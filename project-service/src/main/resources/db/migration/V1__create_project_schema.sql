@@ -0,0 +1,46 @@
+-- Schéma initial, identique à celui créé jusqu'ici par Hibernate (ddl-auto: update)
+-- IF NOT EXISTS : une base existante est reprise telle quelle (baseline-on-migrate, version 0)
+
+CREATE TABLE IF NOT EXISTS projects (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title        VARCHAR(100) NOT NULL,
+    description  TEXT,
+    status       VARCHAR(255) NOT NULL,
+    color        VARCHAR(7),
+    start_date   DATE,
+    end_date     DATE,
+    owner_id     BIGINT       NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS project_members (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id  BIGINT       NOT NULL REFERENCES projects (id),
+    user_id     BIGINT       NOT NULL,
+    joined_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_project_members_project_user UNIQUE (project_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS task_statuses (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id  BIGINT       NOT NULL,
+    name        VARCHAR(50)  NOT NULL,
+    color       VARCHAR(7)   NOT NULL,
+    position    INTEGER      NOT NULL,
+    is_default  BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_status_project_name UNIQUE (project_id, name),
+    CONSTRAINT uk_status_project_position UNIQUE (project_id, position)
+);
+
+CREATE TABLE IF NOT EXISTS invitations (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id  BIGINT,
+    email       VARCHAR(255),
+    invited_by  BIGINT,
+    token       VARCHAR(255),
+    status      VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    expires_at  TIMESTAMP(6)
+);
@@ -0,0 +1,13 @@
+-- Index des requêtes des repositories (absents tant que le schéma venait de Hibernate)
+
+-- Projets dont l'utilisateur est membre (findByMemberId, findByOwnerIdOrMemberId)
+CREATE INDEX IF NOT EXISTS idx_project_members_user ON project_members (user_id);
+
+-- Projets dont l'utilisateur est propriétaire (findByOwnerId, countByOwnerId)
+CREATE INDEX IF NOT EXISTS idx_projects_owner ON projects (owner_id);
+
+-- Acceptation d'une invitation (findByToken) ; jetons UUID, donc uniques
+CREATE UNIQUE INDEX IF NOT EXISTS uk_invitations_token ON invitations (token);
+
+-- Invitation déjà en attente pour cet email (existsByProjectIdAndEmailAndStatus)
+CREATE INDEX IF NOT EXISTS idx_invitations_project_email ON invitations (project_id, email, status);
@@ -0,0 +1,3 @@
+-- Version du contexte d'un projet (accès + statuts) pour les caches de Task Service
+-- Incrémentée à chaque changement de statuts ou de membres (ProjectContextVersions)
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS context_version BIGINT NOT NULL DEFAULT 0;
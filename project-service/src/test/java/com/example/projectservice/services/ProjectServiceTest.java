@@ -7,6 +7,8 @@ import com.example.projectservice.entity.Project;
 import com.example.projectservice.entity.ProjectMember;
 import com.example.projectservice.entity.ProjectStatus;
 import com.example.projectservice.entity.TaskStatsDTO;
+import com.example.projectservice.event.MembershipChangedEvent;
+import com.example.projectservice.event.ProjectDeletedEvent;
 import com.example.projectservice.exception.BadRequestException;
 import com.example.projectservice.exception.ForbiddenException;
 import com.example.projectservice.exception.ResourceNotFoundException;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -28,6 +31,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -53,6 +57,9 @@ public class ProjectServiceTest {
     @Mock
     private TaskStatusService taskStatusService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -188,6 +195,53 @@ public class ProjectServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
     }
 
+    // getProjectContext
+    @Test
+    void getProjectContext_regroupe_acces_statuts_et_version() {
+        sampleProject.setContextVersion(7L);
+        TaskStatusResponse todo = TaskStatusResponse.builder().id(1L).name("To Do").projectId(1L).position(0).build();
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject));
+        when(taskStatusService.getStatusesWithoutCounts(1L)).thenReturn(List.of(todo));
+
+        ProjectContextResponse context = projectService.getProjectContext(1L, 10L, "USER");
+
+        assertThat(context.getAccess().getAccessLevel()).isEqualTo(AccessLevel.OWNER);
+        assertThat(context.getStatuses()).isEqualTo(List.of(todo));
+        assertThat(context.getVersion()).isEqualTo(7L);
+        verify(taskServiceClient, never()).getStatusTaskCounts(anyLong());
+    }
+
+    @Test
+    void getProjectContext_membre_a_acces() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject));
+        when(memberRepository.existsByProjectIdAndUserId(1L, 20L)).thenReturn(true);
+
+        ProjectContextResponse context = projectService.getProjectContext(1L, 20L, "USER");
+
+        assertThat(context.getAccess().isGranted()).isTrue();
+        assertThat(context.getAccess().getAccessLevel()).isEqualTo(AccessLevel.MEMBER);
+    }
+
+    @Test
+    void getProjectContext_lance_exception_si_projet_introuvable() {
+        when(projectRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> projectService.getProjectContext(999L, 10L, "USER"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getProjectContext_omet_les_statuts_si_acces_refuse() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject));
+        when(memberRepository.existsByProjectIdAndUserId(1L, 99L)).thenReturn(false);
+
+        ProjectContextResponse context = projectService.getProjectContext(1L, 99L, "USER");
+
+        assertThat(context.getAccess().isGranted()).isFalse();
+        assertThat(context.getStatuses()).isEqualTo(List.of());
+        verify(taskStatusService, never()).getStatusesWithoutCounts(anyLong());
+    }
+
     // updateProject
     @Test
     void updateProject_owner_peut_modifier_son_projet() {
@@ -240,6 +294,7 @@ public class ProjectServiceTest {
         projectService.deleteProject(1L, 10L, "USER");
 
         verify(projectRepository).delete(sampleProject);
+        verify(eventPublisher).publishEvent(new ProjectDeletedEvent(1L));
     }
 
     @Test
@@ -320,6 +375,7 @@ public class ProjectServiceTest {
         projectService.removeMember(1L, 20L, 10L, "USER");
 
         verify(memberRepository).delete(member);
+        verify(eventPublisher).publishEvent(new MembershipChangedEvent(1L, 20L));
     }
 
     @Test
@@ -344,22 +400,24 @@ public class ProjectServiceTest {
                 .todoTasks(3)
                 .inProgressTasks(4)
                 .doneTasks(3)
+                .tasksByStatus(Map.of(1L, 3, 2L, 4, 3L, 3))
                 .build();
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject));
-        when(taskServiceClient.getTaskStatsByProject(1L)).thenReturn(taskStats);
+        when(taskServiceClient.getTaskStatsByProject(1L, 10L, "USER")).thenReturn(taskStats);
         when(memberRepository.countByProjectId(1L)).thenReturn(4L);
 
         ProjectStatsResponse stats = projectService.getProjectStats(1L, 10L, "USER");
 
         assertThat(stats.getTotalTasks()).isEqualTo(10);
+        assertThat(stats.getTasksByStatus().get(2L)).isEqualTo(4);
         assertThat(stats.getTotalMembers()).isEqualTo(5); // 4 membres + 1 owner
     }
 
     @Test
     void getProjectStats_retourne_stats_vides_si_task_service_echoue() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(sampleProject));
-        when(taskServiceClient.getTaskStatsByProject(1L)).thenThrow(new RuntimeException("Service indisponible"));
+        when(taskServiceClient.getTaskStatsByProject(1L, 10L, "USER")).thenThrow(new RuntimeException("Service indisponible"));
         when(memberRepository.countByProjectId(1L)).thenReturn(2L);
 
         // Ne doit pas planter — renvoie des stats à zéro
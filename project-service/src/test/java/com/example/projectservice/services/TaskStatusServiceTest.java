@@ -0,0 +1,203 @@
+package com.example.projectservice.services;
+
+import com.example.projectservice.client.TaskServiceClient;
+import com.example.projectservice.dto.TaskStatusRequest;
+import com.example.projectservice.dto.TaskStatusResponse;
+import com.example.projectservice.entity.Project;
+import com.example.projectservice.entity.TaskStatusEntity;
+import com.example.projectservice.event.StatusDeletedEvent;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskStatusRepository;
+import com.example.projectservice.service.TaskStatusService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatusServiceTest {
+
+    @Mock
+    private TaskStatusRepository statusRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskServiceClient taskServiceClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final boolean[] inTransaction = {false};
+
+    @InjectMocks
+    private TaskStatusService taskStatusService;
+
+    private TaskStatusEntity todo;
+    private TaskStatusEntity done;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setOwnerId(10L);
+        lenient().when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus());
+            } finally {
+                inTransaction[0] = false;
+            }
+        });
+
+        todo = status(11L, "To Do", 0);
+        done = status(12L, "Done", 1);
+    }
+
+    private TaskStatusEntity status(Long id, String name, int position) {
+        TaskStatusEntity status = new TaskStatusEntity();
+        status.setId(id);
+        status.setProjectId(1L);
+        status.setName(name);
+        status.setColor("#ffffff");
+        status.setPosition(position);
+        status.setIsDefault(true);
+        return status;
+    }
+
+    @Test
+    void getProjectStatuses_renseigne_le_nombre_de_taches_de_chaque_colonne() {
+        when(statusRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(todo, done));
+        when(taskServiceClient.getStatusTaskCounts(1L)).thenReturn(Map.of(11L, 4L));
+
+        List<TaskStatusResponse> statuses = taskStatusService.getProjectStatuses(1L, 10L, "USER");
+
+        assertThat(statuses).extracting(TaskStatusResponse::getTaskCount).containsExactly(4, 0);
+    }
+
+    @Test
+    void getProjectStatuses_ne_renseigne_pas_les_compteurs_si_task_service_echoue() {
+        when(statusRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(todo, done));
+        when(taskServiceClient.getStatusTaskCounts(1L)).thenThrow(new RuntimeException("Service indisponible"));
+
+        List<TaskStatusResponse> statuses = taskStatusService.getProjectStatuses(1L, 10L, "USER");
+
+        // null = compteurs non lus, et non des colonnes vides
+        assertThat(statuses).extracting(TaskStatusResponse::getTaskCount).containsOnlyNulls();
+    }
+
+    @Test
+    void updateStatus_lit_les_compteurs_apres_le_commit() {
+        when(statusRepository.findByIdAndProjectId(12L, 1L)).thenReturn(Optional.of(done));
+        when(statusRepository.save(done)).thenReturn(done);
+        // Task Service n'est jamais appelé pendant que la transaction tient la ligne du statut
+        when(taskServiceClient.getStatusTaskCounts(1L)).thenAnswer(invocation -> {
+            assertThat(inTransaction[0]).isFalse();
+            return Map.of(12L, 3L);
+        });
+
+        TaskStatusRequest request = new TaskStatusRequest();
+        request.setName("Terminé");
+        request.setColor("#4caf50");
+
+        TaskStatusResponse response = taskStatusService.updateStatus(1L, 12L, request, 10L, "USER");
+
+        assertThat(response.getName()).isEqualTo("Terminé");
+        assertThat(response.getTaskCount()).isEqualTo(3);
+    }
+
+    @Test
+    void reorderStatuses_lit_les_compteurs_apres_le_commit() {
+        when(statusRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(todo, done));
+        when(statusRepository.saveAll(List.of(todo, done))).thenReturn(List.of(todo, done));
+        when(taskServiceClient.getStatusTaskCounts(1L)).thenAnswer(invocation -> {
+            assertThat(inTransaction[0]).isFalse();
+            return Map.of(11L, 2L);
+        });
+
+        List<TaskStatusResponse> statuses = taskStatusService.reorderStatuses(1L, List.of(12L, 11L), 10L, "USER");
+
+        assertThat(statuses).extracting(TaskStatusResponse::getId).containsExactly(12L, 11L);
+        assertThat(statuses).extracting(TaskStatusResponse::getTaskCount).containsExactly(0, 2);
+    }
+
+    @Test
+    void getStatusesForProjects_nappelle_pas_task_service() {
+        when(projectRepository.findIdsAccessibleBy(List.of(1L), 10L)).thenReturn(List.of(1L));
+        when(statusRepository.findByProjectIdInOrderByPositionAsc(List.of(1L))).thenReturn(List.of(todo));
+
+        Map<Long, List<TaskStatusResponse>> statuses = taskStatusService.getStatusesForProjects(List.of(1L), 10L, "USER");
+
+        assertThat(statuses.get(1L)).extracting(TaskStatusResponse::getTaskCount).containsOnlyNulls();
+        verifyNoInteractions(taskServiceClient);
+    }
+
+    @Test
+    void getStatusesForProjects_ignore_les_projets_non_accessibles() {
+        when(projectRepository.findIdsAccessibleBy(List.of(1L, 2L), 10L)).thenReturn(List.of(1L));
+        when(statusRepository.findByProjectIdInOrderByPositionAsc(List.of(1L))).thenReturn(List.of(todo));
+
+        Map<Long, List<TaskStatusResponse>> statuses =
+                taskStatusService.getStatusesForProjects(List.of(1L, 2L), 10L, "USER");
+
+        assertThat(statuses).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void getStatusesForProjects_sans_projet_accessible_ne_lit_aucun_statut() {
+        when(projectRepository.findIdsAccessibleBy(List.of(2L), 10L)).thenReturn(List.of());
+
+        assertThat(taskStatusService.getStatusesForProjects(List.of(2L), 10L, "USER")).isEmpty();
+        verifyNoInteractions(statusRepository);
+    }
+
+    @Test
+    void getStatusesForProjects_admin_voit_tous_les_projets() {
+        when(statusRepository.findByProjectIdInOrderByPositionAsc(List.of(1L, 2L))).thenReturn(List.of(todo));
+
+        taskStatusService.getStatusesForProjects(List.of(1L, 2L), 99L, "ADMIN");
+
+        verify(projectRepository, never()).findIdsAccessibleBy(any(), any());
+    }
+
+    @Test
+    void getStatusesForProjectsInternal_ne_verifie_aucun_acces() {
+        when(statusRepository.findByProjectIdInOrderByPositionAsc(List.of(1L, 2L))).thenReturn(List.of(todo));
+
+        Map<Long, List<TaskStatusResponse>> statuses = taskStatusService.getStatusesForProjectsInternal(List.of(1L, 2L));
+
+        assertThat(statuses.get(1L)).hasSize(1);
+        verifyNoInteractions(projectRepository, taskServiceClient);
+    }
+
+    @Test
+    void deleteStatus_demande_a_task_service_de_deplacer_les_taches() {
+        when(statusRepository.findByIdAndProjectId(12L, 1L)).thenReturn(Optional.of(done));
+        when(statusRepository.findByIdAndProjectId(11L, 1L)).thenReturn(Optional.of(todo));
+        when(statusRepository.countByProjectId(1L)).thenReturn(2L);
+
+        taskStatusService.deleteStatus(1L, 12L, 11L, 10L, "USER");
+
+        verify(statusRepository).delete(done);
+        verify(eventPublisher).publishEvent(new StatusDeletedEvent(1L, 12L, 11L));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.dto.ProjectAccessDTO;
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Last known good project data, kept well beyond the TTL of the access and status caches.
+ * Written on every successful load from Project Service. When Project Service is unavailable
+ * (circuit open, bulkhead full, timeout: ServiceUnavailableException from the Feign fallback),
+ * the caches serve it instead, without caching it again, and the response is flagged stale.
+ * Only reads are served this way (StaleData.isAcceptable); writes get the failure.
+ * Entries older than the configured maximum age are never served, and entries are dropped
+ * when Project Service notifies a membership, status or project change.
+ */
+@Component
+@Slf4j
+public class LastKnownProjectData {
+
+    public static final String ACCESS_CACHE_NAME = "lastKnownProjectAccess";
+    public static final String STATUSES_CACHE_NAME = "lastKnownProjectStatuses";
+
+    static final String STALE_ACCESS = "project-access";
+    static final String STALE_STATUSES = "project-statuses";
+
+    private final Cache<AccessKey, ProjectAccessDTO> access;
+    private final Cache<Long, List<StatusDTO>> statuses;
+    private final Counter staleAccessServed;
+    private final Counter staleStatusesServed;
+
+    public LastKnownProjectData(MeterRegistry meterRegistry,
+                                @Value("${app.resilience.last-known.max-age-seconds:600}") long maxAgeSeconds,
+                                @Value("${app.resilience.last-known.max-size:50000}") long maxSize) {
+        this.access = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(maxAgeSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(maxAgeSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, access, ACCESS_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, statuses, STATUSES_CACHE_NAME);
+        this.staleAccessServed = meterRegistry.counter("remote.stale.served", "data", STALE_ACCESS);
+        this.staleStatusesServed = meterRegistry.counter("remote.stale.served", "data", STALE_STATUSES);
+    }
+
+    /**
+     * Remember a context loaded for a user: its access decision, and its statuses when granted
+     */
+    public void rememberContext(Long userId, String role, ProjectContextDTO context) {
+        access.put(new AccessKey(userId, role, context.getProjectId()), context.getAccess());
+        if (context.getAccess().isGranted()) {
+            statuses.put(context.getProjectId(), List.copyOf(context.getStatuses()));
+        }
+    }
+
+    /**
+     * Remember the statuses of a project (multi-project load)
+     */
+    public void rememberStatuses(Long projectId, List<StatusDTO> projectStatuses) {
+        statuses.put(projectId, List.copyOf(projectStatuses));
+    }
+
+    /**
+     * Drop the last known access decisions of a project
+     * All users of the project are affected when userId is null
+     */
+    public void invalidate(Long projectId, Long userId) {
+        access.asMap().keySet().removeIf(key -> key.projectId().equals(projectId)
+                && (userId == null || key.userId().equals(userId)));
+    }
+
+    /**
+     * Drop the last known statuses of a project, so a deleted status is never served
+     */
+    public void invalidate(Long projectId) {
+        statuses.invalidate(projectId);
+    }
+
+    /**
+     * Last known access decision of a user, or the failure if there is none or the request is a write
+     */
+    public ProjectAccessDTO staleAccess(Long projectId, Long userId, String role, ServiceUnavailableException failure) {
+        if (!StaleData.isAcceptable()) {
+            throw failure;
+        }
+        ProjectAccessDTO decision = access.getIfPresent(new AccessKey(userId, role, projectId));
+        if (decision == null) {
+            throw failure;
+        }
+        log.warn("Serving last known access of user {} on project {}: {}", userId, projectId, failure.getMessage());
+        staleAccessServed.increment();
+        StaleData.mark(STALE_ACCESS);
+        return decision;
+    }
+
+    /**
+     * Last known statuses of a project, or the failure if there are none or the request is a write
+     */
+    public List<StatusDTO> staleStatuses(Long projectId, ServiceUnavailableException failure) {
+        if (!StaleData.isAcceptable()) {
+            throw failure;
+        }
+        List<StatusDTO> projectStatuses = statuses.getIfPresent(projectId);
+        if (projectStatuses == null) {
+            throw failure;
+        }
+        log.warn("Serving last known statuses of project {}: {}", projectId, failure.getMessage());
+        staleStatusesServed.increment();
+        StaleData.mark(STALE_STATUSES);
+        return projectStatuses;
+    }
+
+    private record AccessKey(Long userId, String role, Long projectId) {
+    }
+}
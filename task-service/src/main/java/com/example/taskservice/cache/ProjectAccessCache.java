@@ -0,0 +1,97 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.ProjectAccessDTO;
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache of project access decisions, keyed by (user, role, project).
+ * Avoids one Feign call to Project Service per task operation.
+ * Decisions are invalidated when Project Service notifies a membership change.
+ * A miss loads the whole project context, whose statuses warm the status cache,
+ * so a cold task operation costs one call instead of one per lookup.
+ * While Project Service is unavailable, misses are answered from LastKnownProjectData
+ * (bounded by its maximum age) rather than failing every task operation.
+ */
+@Component
+@Slf4j
+public class ProjectAccessCache {
+
+    public static final String CACHE_NAME = "projectAccess";
+
+    private final ProjectServiceClient projectServiceClient;
+    private final ProjectStatusCache statusCache;
+    private final LastKnownProjectData lastKnown;
+    private final Cache<AccessKey, ProjectAccessDTO> cache;
+
+    public ProjectAccessCache(ProjectServiceClient projectServiceClient,
+                              ProjectStatusCache statusCache,
+                              LastKnownProjectData lastKnown,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cache.access.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${app.cache.access.max-size:50000}") long maxSize) {
+        this.projectServiceClient = projectServiceClient;
+        this.statusCache = statusCache;
+        this.lastKnown = lastKnown;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the access decision of a user on a project
+     * Loaded from Project Service on a miss; errors (e.g. project not found) are not cached
+     * Last known decision if Project Service is unavailable
+     */
+    public ProjectAccessDTO getAccess(Long projectId, Long userId, String role) {
+        try {
+            return cache.get(new AccessKey(userId, role, projectId), key -> load(projectId, userId, role));
+        } catch (ServiceUnavailableException e) {
+            return lastKnown.staleAccess(projectId, userId, role, e);
+        }
+    }
+
+    /**
+     * Whether a granted decision of the user on the project is cached
+     * Never calls Project Service
+     */
+    public boolean isKnownGranted(Long projectId, Long userId, String role) {
+        ProjectAccessDTO decision = cache.getIfPresent(new AccessKey(userId, role, projectId));
+        return decision != null && decision.isGranted();
+    }
+
+    /**
+     * Drop cached decisions of a project
+     * All users of the project are affected when userId is null
+     */
+    public void invalidate(Long projectId, Long userId) {
+        cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId)
+                && (userId == null || key.userId().equals(userId)));
+        log.debug("Access cache invalidated for project {} (user {})", projectId, userId);
+    }
+
+    private ProjectAccessDTO load(Long projectId, Long userId, String role) {
+        ProjectContextDTO context = projectServiceClient.getProjectContext(projectId, userId, role);
+        lastKnown.rememberContext(userId, role, context);
+        if (context.getAccess().isGranted()) {
+            statusCache.seed(projectId, context.getStatuses(), context.getVersion());
+        }
+        return context.getAccess();
+    }
+
+    private record AccessKey(Long userId, String role, Long projectId) {
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.exception.ForbiddenException;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Local cache of the statuses (Kanban columns) of each project.
+ * Avoids one Feign call to Project Service per task read/write.
+ * Entries expire after a TTL and are invalidated explicitly when
+ * Project Service notifies a change on the project's statuses.
+ * Each entry keeps the project context version it was loaded with, so a
+ * newer context (e.g. loaded with an access decision) replaces older statuses.
+ * While Project Service is unavailable, misses are answered from LastKnownProjectData.
+ */
+@Component
+@Slf4j
+public class ProjectStatusCache {
+
+    public static final String CACHE_NAME = "projectStatuses";
+
+    /**
+     * Version of entries loaded through the multi-project endpoint, which has none
+     */
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final ProjectServiceClient projectServiceClient;
+    private final LastKnownProjectData lastKnown;
+    private final Cache<Long, VersionedStatuses> cache;
+
+    public ProjectStatusCache(ProjectServiceClient projectServiceClient,
+                              LastKnownProjectData lastKnown,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cache.statuses.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${app.cache.statuses.max-size:10000}") long maxSize) {
+        this.projectServiceClient = projectServiceClient;
+        this.lastKnown = lastKnown;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get all statuses of a project, ordered by position
+     * Loaded from Project Service on a miss, last known statuses if it is unavailable
+     */
+    public List<StatusDTO> getStatuses(Long projectId, Long userId, String role) {
+        try {
+            return cache.get(projectId, id -> load(id, userId, role)).statuses();
+        } catch (ServiceUnavailableException e) {
+            return lastKnown.staleStatuses(projectId, e);
+        }
+    }
+
+    /**
+     * Statuses of a project if they are already cached, without calling Project Service
+     * Used by internal callers that have no user identity to load them with
+     */
+    public Optional<List<StatusDTO>> peekStatuses(Long projectId) {
+        return Optional.ofNullable(cache.getIfPresent(projectId)).map(VersionedStatuses::statuses);
+    }
+
+    /**
+     * Statuses of a project for background jobs, which have no user identity
+     * Loaded from the internal endpoint of Project Service on a miss; never served stale
+     */
+    public List<StatusDTO> getStatusesInternal(Long projectId) {
+        return cache.get(projectId, this::loadInternal).statuses();
+    }
+
+    /**
+     * Get the statuses of several projects, grouped by project ID
+     * Entries are shared by all users: a cached entry is served only for projects the user
+     * is known to access (knownAccessible, e.g. a granted decision in ProjectAccessCache).
+     * All other projects are loaded from Project Service in a single call, which leaves out
+     * the projects the user cannot access, or served from the last known statuses if it is unavailable
+     */
+    public Map<Long, List<StatusDTO>> getStatusesForProjects(Set<Long> projectIds, Long userId, String role,
+                                                             Predicate<Long> knownAccessible) {
+        Map<Long, List<StatusDTO>> statuses = new HashMap<>();
+        Set<Long> toLoad = new HashSet<>();
+        for (Long projectId : projectIds) {
+            VersionedStatuses cached = cache.getIfPresent(projectId);
+            if (cached != null && knownAccessible.test(projectId)) {
+                statuses.put(projectId, cached.statuses());
+            } else {
+                toLoad.add(projectId);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return statuses;
+        }
+
+        try {
+            loadAll(toLoad, userId, role).forEach((projectId, loaded) ->
+                    statuses.put(projectId, cache.asMap().merge(projectId, loaded, ProjectStatusCache::newer).statuses()));
+        } catch (ServiceUnavailableException e) {
+            for (Long projectId : toLoad) {
+                if (knownAccessible.test(projectId) || staleAccessGranted(projectId, userId, role, e)) {
+                    statuses.put(projectId, lastKnown.staleStatuses(projectId, e));
+                }
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Find a status of a project
+     * If the status is unknown the entry may be outdated, so it is reloaded once
+     */
+    public Optional<StatusDTO> findStatus(Long projectId, Long statusId, Long userId, String role) {
+        Optional<StatusDTO> status = lookup(getStatuses(projectId, userId, role), statusId);
+        if (status.isPresent()) {
+            return status;
+        }
+
+        cache.invalidate(projectId);
+        return lookup(getStatuses(projectId, userId, role), statusId);
+    }
+
+    /**
+     * Store statuses received with a project context (access lookup)
+     * Kept only if at least as recent as the cached entry
+     */
+    public void seed(Long projectId, List<StatusDTO> statuses, long version) {
+        cache.asMap().merge(projectId, new VersionedStatuses(List.copyOf(statuses), version), ProjectStatusCache::newer);
+    }
+
+    /**
+     * Drop the cached statuses of a project
+     * Called when Project Service creates, updates, deletes or reorders a status
+     */
+    public void invalidate(Long projectId) {
+        cache.invalidate(projectId);
+        log.debug("Status cache invalidated for project {}", projectId);
+    }
+
+    /**
+     * Load the statuses of a project from its context
+     * A denied context carries no statuses, so it is not cached
+     */
+    private VersionedStatuses load(Long projectId, Long userId, String role) {
+        log.debug("Status cache miss for project {}", projectId);
+        ProjectContextDTO context = projectServiceClient.getProjectContext(projectId, userId, role);
+        if (!context.getAccess().isGranted()) {
+            throw new ForbiddenException("No access to this project");
+        }
+        lastKnown.rememberContext(userId, role, context);
+        return new VersionedStatuses(List.copyOf(context.getStatuses()), context.getVersion());
+    }
+
+    private VersionedStatuses loadInternal(Long projectId) {
+        log.debug("Status cache miss for project {} (internal)", projectId);
+        List<StatusDTO> statuses = projectServiceClient.getStatusesForProjectsInternal(List.of(projectId))
+                .getOrDefault(projectId, List.of());
+        lastKnown.rememberStatuses(projectId, statuses);
+        return new VersionedStatuses(List.copyOf(statuses), UNKNOWN_VERSION);
+    }
+
+    private Map<Long, VersionedStatuses> loadAll(Set<? extends Long> projectIds, Long userId, String role) {
+        log.debug("Status cache miss for projects {}", projectIds);
+        Map<Long, VersionedStatuses> loaded = new HashMap<>();
+        projectServiceClient.getStatusesForProjects(List.copyOf(projectIds), userId, role)
+                .forEach((projectId, statuses) -> {
+                    lastKnown.rememberStatuses(projectId, statuses);
+                    loaded.put(projectId, new VersionedStatuses(List.copyOf(statuses), UNKNOWN_VERSION));
+                });
+        return loaded;
+    }
+
+    private boolean staleAccessGranted(Long projectId, Long userId, String role, ServiceUnavailableException failure) {
+        try {
+            return lastKnown.staleAccess(projectId, userId, role, failure).isGranted();
+        } catch (ServiceUnavailableException e) {
+            // No known decision: the project is left out
+            return false;
+        }
+    }
+
+    private static VersionedStatuses newer(VersionedStatuses cached, VersionedStatuses loaded) {
+        return loaded.version() >= cached.version() ? loaded : cached;
+    }
+
+    private Optional<StatusDTO> lookup(List<StatusDTO> statuses, Long statusId) {
+        return statuses.stream()
+                .filter(s -> s.getId().equals(statusId))
+                .findFirst();
+    }
+
+    private record VersionedStatuses(List<StatusDTO> statuses, long version) {
+    }
+}
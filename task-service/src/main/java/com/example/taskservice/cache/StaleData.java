@@ -0,0 +1,80 @@
+package com.example.taskservice.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Données servies depuis la dernière valeur connue pendant la requête courante
+ * - Les caches marquent la requête quand Project Service n'a pas pu répondre
+ * - StaleDataResponseAdvice l'annonce dans les en-têtes de la réponse
+ * - Hors requête HTTP (tâches planifiées) : ignoré
+ * - Seules les lectures (GET, HEAD) peuvent en recevoir ; une écriture échoue en 503
+ * Les threads de RemoteLookups héritent des attributs de la requête (TaskDecorator)
+ */
+public final class StaleData {
+
+    public static final String HEADER = "X-Stale-Data";
+
+    private static final String ATTRIBUTE = StaleData.class.getName();
+
+    private StaleData() {
+    }
+
+    /**
+     * Signaler une donnée périmée (ex. "project-statuses") dans la requête courante
+     */
+    public static void mark(String source) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        try {
+            sources(attributes).add(source);
+        } catch (IllegalStateException e) {
+            // Requête déjà terminée (vérification annulée encore en cours)
+        }
+    }
+
+    /**
+     * La requête courante peut-elle être servie avec des données périmées ?
+     * Uniquement une lecture : une écriture validée sur un accès ou des statuts périmés
+     * (membre retiré, colonne supprimée) ne se rattrape pas
+     */
+    public static boolean isAcceptable() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        String method = attributes.getRequest().getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * Sources périmées de la requête courante, vide si tout est frais
+     */
+    public static Set<String> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Set.of();
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> sources = (Set<String>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return sources == null ? Set.of() : Collections.unmodifiableSet(sources);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> sources(RequestAttributes attributes) {
+        synchronized (attributes) {
+            Set<String> sources = (Set<String>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (sources == null) {
+                sources = ConcurrentHashMap.newKeySet();
+                attributes.setAttribute(ATTRIBUTE, sources, RequestAttributes.SCOPE_REQUEST);
+            }
+            return sources;
+        }
+    }
+}
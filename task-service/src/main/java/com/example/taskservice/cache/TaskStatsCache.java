@@ -0,0 +1,71 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.repository.StatusTaskCount;
+import com.example.taskservice.repository.TaskCounterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Short-lived cache of the task counts per status of each project.
+ * Dashboards poll the stats endpoint; entries live a few seconds and
+ * are dropped as soon as a task write of the project is committed.
+ */
+@Component
+@Slf4j
+public class TaskStatsCache {
+
+    public static final String CACHE_NAME = "taskStats";
+
+    private final TaskCounterRepository counterRepository;
+    private final Cache<Long, Map<Long, Long>> cache;
+
+    public TaskStatsCache(TaskCounterRepository counterRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.cache.stats.ttl-seconds:10}") long ttlSeconds,
+                          @Value("${app.cache.stats.max-size:10000}") long maxSize) {
+        this.counterRepository = counterRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Task count of every status of a project, keyed by status ID
+     * Loaded from the task_counters read model on a miss (a few rows per status)
+     */
+    public Map<Long, Long> getStatusCounts(Long projectId) {
+        return cache.get(projectId, this::load);
+    }
+
+    public void invalidate(Long projectId) {
+        cache.invalidate(projectId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksChanged(TasksChangedEvent event) {
+        invalidate(event.getProjectId());
+    }
+
+    private Map<Long, Long> load(Long projectId) {
+        log.debug("Stats cache miss for project {}", projectId);
+        Map<Long, Long> counts = new HashMap<>();
+        for (StatusTaskCount count : counterRepository.sumByStatus(projectId)) {
+            counts.put(count.getStatusId(), count.getTaskCount());
+        }
+        return Map.copyOf(counts);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.client.AuthServiceClient;
+import com.example.taskservice.dto.AssignedUserDTO;
+import com.example.taskservice.dto.UserChangeDTO;
+import com.example.taskservice.dto.UserDTO;
+import com.example.taskservice.entity.DirectoryUser;
+import com.example.taskservice.repository.UserDirectoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Local directory of users (name, avatar) used to show task assignees.
+ * Replicated from Auth Service into the user_directory table:
+ * - user changes are pushed by Auth Service (applyChange), older changes never overwrite newer ones
+ * - users still unknown are fetched from Auth Service in one batch call and stored
+ * Lookups go through a bounded in-memory cache, then the table, so a board or a list
+ * resolves all its assignees without any call to Auth Service once they are known.
+ * Entries expire after a TTL so a change applied by another instance is seen on this one too.
+ * If Auth Service is unavailable, unknown users are returned without a profile (not cached).
+ */
+@Component
+@Slf4j
+public class UserDirectory {
+
+    public static final String CACHE_NAME = "userDirectory";
+
+    private static final LocalDateTime FETCHED_CHANGED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserDirectoryRepository repository;
+    private final AuthServiceClient authServiceClient;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    /**
+     * Empty value: user deleted or unknown to Auth Service, not asked again
+     */
+    private final Cache<Long, Optional<AssignedUserDTO>> cache;
+
+    public UserDirectory(UserDirectoryRepository repository,
+                         AuthServiceClient authServiceClient,
+                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                         AsyncTaskExecutor executor,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.cache.users.ttl-seconds:600}") long ttlSeconds,
+                         @Value("${app.cache.users.max-size:50000}") long maxSize) {
+        this.repository = repository;
+        this.authServiceClient = authServiceClient;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Profiles of the given users; users without a known profile are absent from the result
+     * At most one table query and one Auth Service call for all the misses
+     */
+    public Map<Long, AssignedUserDTO> getUsers(Collection<Long> userIds) {
+        Map<Long, AssignedUserDTO> users = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return users;
+        }
+        cache.getAll(userIds, this::loadAll)
+                .forEach((id, user) -> user.ifPresent(profile -> users.put(id, profile)));
+        return users;
+    }
+
+    /**
+     * Apply a change pushed by Auth Service; a change older than the stored one is ignored
+     * Returns whether the change was applied
+     */
+    public boolean applyChange(UserChangeDTO change) {
+        int applied = repository.applyChange(change.getUserId(), change.getFirstName(), change.getLastName(),
+                change.getAvatarUrl(), !Boolean.FALSE.equals(change.getActive()), change.isDeleted(),
+                change.getChangedAt());
+        if (applied == 0) {
+            log.debug("Ignored out-of-date change of user {} ({})", change.getUserId(), change.getChangedAt());
+        }
+        cache.invalidate(change.getUserId());
+        return applied > 0;
+    }
+
+    private Map<Long, Optional<AssignedUserDTO>> loadAll(Set<? extends Long> userIds) {
+        Map<Long, Optional<AssignedUserDTO>> loaded = new HashMap<>();
+        Set<Long> unknown = new HashSet<>(userIds);
+        for (DirectoryUser user : repository.findAllById(unknown)) {
+            loaded.put(user.getUserId(), user.isDeleted() ? Optional.empty() : Optional.of(toProfile(user)));
+        }
+
+        unknown.removeAll(loaded.keySet());
+        if (!unknown.isEmpty()) {
+            loaded.putAll(fetchFromAuthService(unknown));
+        }
+        return loaded;
+    }
+
+    /**
+     * Fetch users missing from the directory; they are stored in the background, outside the
+     * (usually read-only) transaction of the request. Users missing from Auth Service are stored as deleted.
+     * Stored with the oldest change time: clocks of the two services may differ,
+     * so any change pushed by Auth Service replaces a fetched copy
+     */
+    private Map<Long, Optional<AssignedUserDTO>> fetchFromAuthService(Set<Long> userIds) {
+        List<UserDTO> fetched;
+        try {
+            fetched = authServiceClient.getUsersByIds(userIds);
+        } catch (Exception e) {
+            log.warn("Could not fetch users {} from Auth Service: {}", userIds, e.toString());
+            return Map.of();
+        }
+
+        Map<Long, Optional<AssignedUserDTO>> loaded = new HashMap<>();
+        List<DirectoryUser> entries = new ArrayList<>();
+        for (UserDTO user : fetched) {
+            DirectoryUser entry = DirectoryUser.builder()
+                    .userId(user.getId())
+                    .firstName(user.getFirstName())
+                    .lastName(user.getLastName())
+                    .avatarUrl(user.getAvatarUrl())
+                    .active(!Boolean.FALSE.equals(user.getIsActive()))
+                    .changedAt(FETCHED_CHANGED_AT)
+                    .build();
+            entries.add(entry);
+            loaded.put(user.getId(), Optional.of(toProfile(entry)));
+        }
+        for (Long userId : userIds) {
+            if (!loaded.containsKey(userId)) {
+                entries.add(DirectoryUser.builder()
+                        .userId(userId)
+                        .deleted(true)
+                        .changedAt(FETCHED_CHANGED_AT)
+                        .build());
+                loaded.put(userId, Optional.empty());
+            }
+        }
+
+        executor.execute(() -> store(entries));
+        return loaded;
+    }
+
+    private void store(List<DirectoryUser> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> entries.forEach(entry ->
+                    repository.insertIfAbsent(entry.getUserId(), entry.getFirstName(), entry.getLastName(),
+                            entry.getAvatarUrl(), entry.isActive(), entry.isDeleted(), entry.getChangedAt())));
+        } catch (Exception e) {
+            // Only a missed copy: these users will be fetched again
+            log.warn("Failed to store {} users in the user directory", entries.size(), e);
+        }
+    }
+
+    private static AssignedUserDTO toProfile(DirectoryUser user) {
+        return AssignedUserDTO.builder()
+                .id(user.getUserId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .avatarUrl(user.getAvatarUrl())
+                .build();
+    }
+}
@@ -5,8 +5,12 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "AUTH-SERVICE")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "AUTH-SERVICE", fallbackFactory = AuthServiceClientFallbackFactory.class)
 public interface AuthServiceClient {
 
     @GetMapping("/api/v1/users/{id}")
@@ -15,4 +19,10 @@ public interface AuthServiceClient {
             @RequestHeader("X-User-Id") Long requesterId,
             @RequestHeader("X-User-Role") String role
     );
+
+    /**
+     * Internal endpoint: several users in one call, unknown IDs are absent from the result
+     */
+    @GetMapping("/api/v1/users/internal")
+    List<UserDTO> getUsersByIds(@RequestParam("ids") Collection<Long> ids);
 }
@@ -0,0 +1,40 @@
+package com.example.taskservice.client;
+
+import com.example.taskservice.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fallback of AuthServiceClient, called by the circuit breaker
+ * Fails fast with the translated failure instead of waiting for Auth Service
+ */
+@Component
+@Slf4j
+public class AuthServiceClientFallbackFactory implements FallbackFactory<AuthServiceClient> {
+
+    private static final String SERVICE = "Auth Service";
+
+    @Override
+    public AuthServiceClient create(Throwable cause) {
+        RuntimeException failure = RemoteFailures.translate(SERVICE, cause);
+        if (failure != cause) {
+            log.warn("{} call failed: {}", SERVICE, cause.toString());
+        }
+
+        return new AuthServiceClient() {
+            @Override
+            public UserDTO getUserById(Long id, Long requesterId, String role) {
+                throw failure;
+            }
+
+            @Override
+            public List<UserDTO> getUsersByIds(Collection<Long> ids) {
+                throw failure;
+            }
+        };
+    }
+}
@@ -1,42 +1,44 @@
 package com.example.taskservice.client;
 
-import com.example.taskservice.dto.ProjectDTO;
+import com.example.taskservice.dto.ProjectContextDTO;
 import com.example.taskservice.dto.StatusDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
-@FeignClient(name = "PROJECT-SERVICE")
+@FeignClient(name = "PROJECT-SERVICE", fallbackFactory = ProjectServiceClientFallbackFactory.class)
 public interface ProjectServiceClient {
 
     /**
-     * Get a single status by ID
-     * Used to validate status belongs to project when creating/updating tasks
+     * Get the statuses of several projects in one call, grouped by project ID
+     * Used to enrich cross-project task lists
      */
-    @GetMapping("/api/v1/projects/{projectId}/statuses/{statusId}")
-    StatusDTO getStatusById(
-            @PathVariable("projectId") Long projectId,
-            @PathVariable("statusId") Long statusId,
+    @GetMapping("/api/v1/projects/statuses")
+    Map<Long, List<StatusDTO>> getStatusesForProjects(
+            @RequestParam("projectIds") Collection<Long> projectIds,
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role
     );
 
     /**
-     * Get all statuses for a project
-     * Used to enrich task responses with status details
+     * Statuses of several projects without a user, grouped by project ID
+     * Used by background jobs (status migration, completion backfill)
      */
-    @GetMapping("/api/v1/projects/{projectId}/statuses")
-    List<StatusDTO> getProjectStatuses(
-            @PathVariable("projectId") Long projectId,
-            @RequestHeader("X-User-Id") Long userId,
-            @RequestHeader("X-User-Role") String role
-    );
+    @GetMapping("/api/v1/projects/internal/statuses")
+    Map<Long, List<StatusDTO>> getStatusesForProjectsInternal(@RequestParam("projectIds") Collection<Long> projectIds);
 
-    @GetMapping("/api/v1/projects/{id}")
-    ProjectDTO getProjectById(
+    /**
+     * Access decision, ordered statuses and context version in a single call
+     * Used to fill the access and status caches together (internal endpoint, not exposed by the gateway)
+     */
+    @GetMapping("/api/v1/projects/internal/{id}/context")
+    ProjectContextDTO getProjectContext(
             @PathVariable("id") Long id,
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role
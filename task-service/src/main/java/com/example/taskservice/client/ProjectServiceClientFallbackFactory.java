@@ -0,0 +1,49 @@
+package com.example.taskservice.client;
+
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.dto.StatusDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fallback of every ProjectServiceClient method, called by the circuit breaker
+ * Fails fast with the translated failure; the caches then serve the last known
+ * good data (LastKnownProjectData) and flag the response as stale
+ */
+@Component
+@Slf4j
+public class ProjectServiceClientFallbackFactory implements FallbackFactory<ProjectServiceClient> {
+
+    private static final String SERVICE = "Project Service";
+
+    @Override
+    public ProjectServiceClient create(Throwable cause) {
+        RuntimeException failure = RemoteFailures.translate(SERVICE, cause);
+        if (failure != cause) {
+            log.warn("{} call failed: {}", SERVICE, cause.toString());
+        }
+
+        return new ProjectServiceClient() {
+            @Override
+            public Map<Long, List<StatusDTO>> getStatusesForProjects(Collection<Long> projectIds, Long userId,
+                                                                     String role) {
+                throw failure;
+            }
+
+            @Override
+            public Map<Long, List<StatusDTO>> getStatusesForProjectsInternal(Collection<Long> projectIds) {
+                throw failure;
+            }
+
+            @Override
+            public ProjectContextDTO getProjectContext(Long id, Long userId, String role) {
+                throw failure;
+            }
+        };
+    }
+}
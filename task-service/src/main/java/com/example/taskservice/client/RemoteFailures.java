@@ -0,0 +1,32 @@
+package com.example.taskservice.client;
+
+import com.example.taskservice.exception.ServiceUnavailableException;
+import feign.FeignException;
+
+/**
+ * How a failed inter-service call surfaces to callers, once the circuit breaker gave up
+ */
+public final class RemoteFailures {
+
+    private RemoteFailures() {
+    }
+
+    /**
+     * 4xx: the remote service answered (not found, forbidden...), it is not degraded
+     * Not recorded by the circuit breaker and rethrown unchanged
+     */
+    public static boolean isClientError(Throwable failure) {
+        return failure instanceof FeignException feign && feign.status() >= 400 && feign.status() < 500;
+    }
+
+    /**
+     * Exception thrown by a fallback: the original 4xx, or ServiceUnavailableException when the
+     * call failed, timed out, or was rejected by an open circuit or a full bulkhead
+     */
+    static RuntimeException translate(String service, Throwable failure) {
+        if (isClientError(failure)) {
+            return (FeignException) failure;
+        }
+        return new ServiceUnavailableException(service + " is unavailable", failure);
+    }
+}
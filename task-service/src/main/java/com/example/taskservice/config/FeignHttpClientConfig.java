@@ -0,0 +1,45 @@
+package com.example.taskservice.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Client HTTP partagé par les clients Feign (Project Service, Auth Service)
+ * - Pool Apache HttpClient 5 créé par Spring Cloud OpenFeign (spring.cloud.openfeign.httpclient.*) :
+ *   limites totale et par route, durée de vie des connexions, attente d'une connexion libre
+ * - Timeouts de connexion et de lecture : spring.cloud.openfeign.client.config.default
+ * - Réponses gzip décompressées par HttpClient, qui annonce Accept-Encoding
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    /**
+     * Fermer les connexions keep-alive inactives avant que le serveur ne les coupe,
+     * pour ne jamais réutiliser une connexion déjà fermée de l'autre côté
+     */
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer feignIdleConnectionEviction(
+            @Value("${app.feign.idle-eviction-seconds:15}") long idleSeconds) {
+        return builder -> builder.evictIdleConnections(TimeValue.ofSeconds(idleSeconds));
+    }
+
+    /**
+     * Occupation du pool exportée dans Micrometer : httpcomponents.httpclient.pool.*
+     * (connexions louées, disponibles, requêtes en attente), avec le tag httpclient=feign
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager connectionManager) {
+        if (!(connectionManager instanceof PoolingHttpClientConnectionManager pool)) {
+            return registry -> {
+            };
+        }
+        return new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign");
+    }
+}
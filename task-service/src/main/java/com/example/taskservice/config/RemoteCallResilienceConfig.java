@@ -0,0 +1,100 @@
+package com.example.taskservice.config;
+
+import com.example.taskservice.client.RemoteFailures;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadConfigurationBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Résilience des appels Feign vers Project Service et Auth Service (Resilience4j)
+ * - Chaque méthode des clients est enveloppée (spring.cloud.openfeign.circuitbreaker.enabled),
+ *   avec son circuit breaker, son bulkhead et son time limiter ; une file d'exécution par service
+ * - Circuit breaker : ouvert sur taux d'échecs ou d'appels lents, les 4xx ne comptent pas
+ * - Bulkhead sémaphore sans attente : un service lent ne bloque qu'un nombre borné de threads
+ * - Time limiter : délai total d'un appel (attente du pool HTTP comprise)
+ * Circuit ouvert, bulkhead plein ou délai dépassé : le fallback échoue aussitôt
+ * (ServiceUnavailableException) et les caches servent la dernière valeur connue
+ */
+@Configuration
+public class RemoteCallResilienceConfig {
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> remoteCallResilience(
+            @Value("${app.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.resilience.circuit-breaker.slow-call-duration-ms:1000}") long slowCallDurationMs,
+            @Value("${app.resilience.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${app.resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${app.resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${app.resilience.circuit-breaker.open-state-seconds:10}") long openStateSeconds,
+            @Value("${app.resilience.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${app.resilience.time-limiter.timeout-ms:2500}") long timeoutMs,
+            @Value("${app.resilience.bulkhead.max-concurrent-calls:25}") int maxConcurrentCalls) {
+        CircuitBreakerConfig circuitBreaker = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(Duration.ofSeconds(openStateSeconds))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .ignoreException(RemoteFailures::isClientError)
+                .build();
+        TimeLimiterConfig timeLimiter = TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(timeoutMs))
+                .cancelRunningFuture(true)
+                .build();
+        BulkheadConfig bulkhead = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        return factory -> {
+            factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                    .circuitBreakerConfig(circuitBreaker)
+                    .timeLimiterConfig(timeLimiter)
+                    .build());
+            if (factory.getBulkheadProvider() != null) {
+                factory.getBulkheadProvider().configureDefault(id -> new Resilience4jBulkheadConfigurationBuilder()
+                        .bulkheadConfig(bulkhead)
+                        .threadPoolBulkheadConfig(ThreadPoolBulkheadConfig.ofDefaults())
+                        .build());
+            }
+        };
+    }
+
+    /**
+     * Attributs de la requête HTTP transmis aux tâches de l'executor applicatif (RemoteLookups) :
+     * une vérification parallèle peut ainsi signaler des données périmées (StaleData)
+     */
+    @Bean
+    public TaskDecorator requestAttributesTaskDecorator() {
+        return task -> {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return task;
+            }
+            return () -> {
+                RequestContextHolder.setRequestAttributes(attributes);
+                try {
+                    task.run();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            };
+        };
+    }
+}
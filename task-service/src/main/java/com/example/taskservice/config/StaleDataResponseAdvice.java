@@ -0,0 +1,40 @@
+package com.example.taskservice.config;
+
+import com.example.taskservice.cache.StaleData;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annoncer les réponses construites avec des données périmées (Project Service indisponible)
+ * - X-Stale-Data : sources concernées, ex. "project-access, project-statuses"
+ * - Warning: 110 (Response is Stale), compris par les clients et proxys HTTP
+ */
+@ControllerAdvice
+public class StaleDataResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        Set<String> sources = StaleData.current();
+        if (!sources.isEmpty()) {
+            response.getHeaders().set(StaleData.HEADER, String.join(", ", new TreeSet<>(sources)));
+            response.getHeaders().set(HttpHeaders.WARNING, "110 task-service \"Response is Stale\"");
+        }
+        return body;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.taskservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Détection des virtual threads bloqués sur leur carrier (pinning), actif seulement
+ * en mode virtual threads (spring.threads.virtual.enabled, JRE 21)
+ * - Événements JFR jdk.VirtualThreadPinned au-delà du seuil (bloc synchronized autour d'une I/O, ex. JDBC)
+ * - Métrique jvm.threads.virtual.pinned (nombre et durée)
+ * - Une trace WARN par pile distincte, pour trouver le code fautif sans inonder les logs
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier thread longer than the threshold")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        if (event.getStackTrace() == null) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedStacks.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms at\n\tat {}", event.getDuration().toMillis(), stack);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.taskservice.controller;
+
+import com.example.taskservice.cache.LastKnownProjectData;
+import com.example.taskservice.cache.ProjectAccessCache;
+import com.example.taskservice.cache.ProjectStatusCache;
+import com.example.taskservice.cache.TaskStatsCache;
+import com.example.taskservice.cache.UserDirectory;
+import com.example.taskservice.dto.CounterRepairReport;
+import com.example.taskservice.dto.ProjectCleanupResponse;
+import com.example.taskservice.dto.StatusMigrationResponse;
+import com.example.taskservice.dto.UserChangeDTO;
+import com.example.taskservice.service.ProjectCleanupService;
+import com.example.taskservice.service.ProjectVersions;
+import com.example.taskservice.service.StatusMigrationService;
+import com.example.taskservice.service.TaskCompletionSync;
+import com.example.taskservice.service.TaskCounterRepair;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Endpoints internes appelés par les autres microservices
+ * NE PAS exposer via API Gateway : /api/v1/{service}/internal/** est rejeté par InternalEndpointFilter (api-gateway)
+ */
+@RestController
+@RequestMapping("/api/v1/tasks/internal")
+@RequiredArgsConstructor
+public class InternalEventController {
+
+    private final ProjectStatusCache statusCache;
+    private final ProjectAccessCache accessCache;
+    private final LastKnownProjectData lastKnown;
+    private final TaskStatsCache statsCache;
+    private final TaskCounterRepair counterRepair;
+    private final StatusMigrationService statusMigrationService;
+    private final TaskCompletionSync completionSync;
+    private final ProjectCleanupService projectCleanupService;
+    private final ProjectVersions projectVersions;
+    private final UserDirectory userDirectory;
+
+    /**
+     * POST /api/v1/tasks/internal/projects/{projectId}/statuses/changed
+     * Notification de Project Service : les statuts du projet ont changé
+     * Une colonne renommée en "Done" ou qui ne l'est plus : dates de fin recalculées en tâche de fond
+     */
+    @PostMapping("/projects/{projectId}/statuses/changed")
+    public ResponseEntity<Void> onStatusesChanged(@PathVariable Long projectId) {
+        statusCache.invalidate(projectId);
+        lastKnown.invalidate(projectId);
+        projectVersions.bump(projectId);
+        completionSync.requestSync(projectId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/v1/tasks/internal/projects/{projectId}/statuses/{statusId}/deleted?moveToStatusId=
+     * Notification de Project Service : un statut a été supprimé
+     * Ses tâches sont déplacées en tâche de fond ; rejouer la notification est sans risque
+     */
+    @PostMapping("/projects/{projectId}/statuses/{statusId}/deleted")
+    public ResponseEntity<StatusMigrationResponse> onStatusDeleted(
+            @PathVariable Long projectId,
+            @PathVariable Long statusId,
+            @RequestParam Long moveToStatusId) {
+        statusCache.invalidate(projectId);
+        lastKnown.invalidate(projectId);
+        projectVersions.bump(projectId);
+        StatusMigrationResponse migration = statusMigrationService.requestMigration(projectId, statusId, moveToStatusId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(migration);
+    }
+
+    /**
+     * POST /api/v1/tasks/internal/projects/{projectId}/deleted
+     * Notification de Project Service : le projet a été supprimé
+     * Ses tâches sont supprimées par lots en tâche de fond ; rejouer la notification est sans risque
+     */
+    @PostMapping("/projects/{projectId}/deleted")
+    public ResponseEntity<ProjectCleanupResponse> onProjectDeleted(@PathVariable Long projectId) {
+        statusCache.invalidate(projectId);
+        accessCache.invalidate(projectId, null);
+        lastKnown.invalidate(projectId);
+        lastKnown.invalidate(projectId, null);
+        ProjectCleanupResponse cleanup = projectCleanupService.requestCleanup(projectId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(cleanup);
+    }
+
+    /**
+     * GET /api/v1/tasks/internal/projects/{projectId}/cleanup
+     * Avancement de la suppression des tâches d'un projet supprimé
+     */
+    @GetMapping("/projects/{projectId}/cleanup")
+    public ResponseEntity<ProjectCleanupResponse> getProjectCleanup(@PathVariable Long projectId) {
+        return ResponseEntity.ok(projectCleanupService.getCleanup(projectId));
+    }
+
+    /**
+     * POST /api/v1/tasks/internal/projects/{projectId}/members/changed?userId=
+     * Notification de Project Service : un membre a rejoint ou quitté le projet
+     * Sans userId, toutes les décisions d'accès du projet sont invalidées
+     */
+    @PostMapping("/projects/{projectId}/members/changed")
+    public ResponseEntity<Void> onMembershipChanged(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long userId) {
+        accessCache.invalidate(projectId, userId);
+        lastKnown.invalidate(projectId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/v1/tasks/internal/users/{userId}/changed
+     * Notification d'Auth Service : profil public modifié (nom, avatar, statut) ou utilisateur supprimé
+     * Appliqué à l'annuaire local ; un changement plus ancien que celui connu est ignoré
+     * Les ETag des projets où il a des tâches assignées sont invalidés (cartes affichées modifiées)
+     */
+    @PostMapping("/users/{userId}/changed")
+    public ResponseEntity<Void> onUserChanged(@PathVariable Long userId, @RequestBody UserChangeDTO change) {
+        change.setUserId(userId);
+        if (userDirectory.applyChange(change)) {
+            projectVersions.bumpProjectsAssignedTo(userId);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * GET /api/v1/tasks/internal/projects/{projectId}/status-counts
+     * Nombre de tâches de chaque colonne du projet (clé = ID du statut)
+     * Lu dans task_counters ; ne rappelle jamais Project Service
+     */
+    @GetMapping("/projects/{projectId}/status-counts")
+    public ResponseEntity<Map<Long, Long>> getStatusCounts(@PathVariable Long projectId) {
+        return ResponseEntity.ok(statsCache.getStatusCounts(projectId));
+    }
+
+    /**
+     * POST /api/v1/tasks/internal/counters/repair
+     * Recalculer task_counters et retourner les écarts corrigés
+     */
+    @PostMapping("/counters/repair")
+    public ResponseEntity<CounterRepairReport> repairCounters() {
+        return ResponseEntity.ok(counterRepair.repair());
+    }
+}
@@ -2,7 +2,17 @@ package com.example.taskservice.controller;
 
 import com.example.taskservice.entity.Priority;
 import com.example.taskservice.service.TaskService;
+import com.example.taskservice.service.TaskVersionTag;
+import com.example.taskservice.dto.BoardColumnResponse;
+import com.example.taskservice.dto.BoardResponse;
+import com.example.taskservice.dto.BulkTaskRequest;
+import com.example.taskservice.dto.ColumnOrderResponse;
+import com.example.taskservice.dto.ReorderTasksRequest;
+import com.example.taskservice.dto.StatusMigrationResponse;
 import com.example.taskservice.dto.TaskRequest;
+import com.example.taskservice.dto.TaskCursorPageResponse;
+import com.example.taskservice.dto.TaskFilter;
+import com.example.taskservice.dto.TaskListSort;
 import com.example.taskservice.dto.TaskResponse;
 import com.example.taskservice.dto.TaskStatsResponse;
 import com.example.taskservice.dto.UpdateTaskStatusRequest;
@@ -10,9 +20,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -30,53 +47,185 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * POST /api/v1/tasks/bulk
+     * Importer plusieurs cartes d'un projet en une requête
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @Valid @RequestBody BulkTaskRequest request,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role) {
+        List<TaskResponse> tasks = taskService.createTasks(request, userId, role);
+        return ResponseEntity.status(HttpStatus.CREATED).body(tasks);
+    }
+
+    /**
+     * GET /api/v1/tasks?projectId=&statusId=&priority=&assignedTo=&dueFrom=&dueTo=&search=
+     * Tous les filtres se combinent ; statusId et priority acceptent plusieurs valeurs
+     * (statusId=1&statusId=2 ou statusId=1,2)
+     * Avec projectId : ETag de la version du projet, 304 si If-None-Match correspond
+     */
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getAllTasks(
             @RequestParam(required = false) Long projectId,
-            @RequestParam(required = false) Long statusId,
-            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) List<Long> statusId,
+            @RequestParam(required = false) List<Priority> priority,
+            @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) String search,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role,
+            Pageable pageable,
+            WebRequest webRequest) {
+        TaskFilter filter = taskFilter(projectId, statusId, priority, assignedTo, dueFrom, dueTo, search);
+        if (projectId == null) {
+            return ResponseEntity.ok(taskService.getAllTasks(filter, userId, role, pageable));
+        }
+        return withProjectETag(projectId, userId, role, webRequest,
+                () -> taskService.getAllTasks(filter, userId, role, pageable));
+    }
+
+    /**
+     * GET /api/v1/tasks?cursor=&...
+     * Mode curseur : présent dès que le paramètre cursor est envoyé (vide pour la première page)
+     * Mêmes filtres que la liste paginée ; pas de COUNT, estimateCount=true renvoie une estimation du total
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<TaskCursorPageResponse> getTasksByCursor(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) List<Long> statusId,
+            @RequestParam(required = false) List<Priority> priority,
             @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "CREATED_AT") TaskListSort sort,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "false") boolean estimateCount,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role,
+            WebRequest webRequest) {
+        TaskFilter filter = taskFilter(projectId, statusId, priority, assignedTo, dueFrom, dueTo, search);
+        if (projectId == null) {
+            return ResponseEntity.ok(taskService.getTasksByCursor(
+                    filter, sort, cursor, limit, estimateCount, userId, role));
+        }
+        return withProjectETag(projectId, userId, role, webRequest,
+                () -> taskService.getTasksByCursor(filter, sort, cursor, limit, estimateCount, userId, role));
+    }
+
+    /**
+     * GET /api/v1/tasks/due?after=&before=&assignedTo=&projectId=&cursor=
+     * Tâches ouvertes dont l'échéance est dans [after, before), la plus proche d'abord
+     * Ex. before=aujourd'hui : tâches en retard ; nextCursor pour la page suivante
+     */
+    @GetMapping("/due")
+    public ResponseEntity<TaskCursorPageResponse> getDueTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate after,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role) {
+        return ResponseEntity.ok(taskService.getDueTasks(
+                projectId, assignedTo, after, before, cursor, limit, userId, role));
+    }
+
+    /**
+     * GET /api/v1/tasks/board?projectId=
+     * Tableau Kanban complet en une requête : colonnes + cartes triées par rank
+     * ETag de la version du projet, 304 si If-None-Match correspond
+     */
+    @GetMapping("/board")
+    public ResponseEntity<BoardResponse> getBoard(
+            @RequestParam Long projectId,
+            @RequestParam(defaultValue = "50") int limit,
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role,
-            Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getAllTasks(
-                projectId, statusId, priority, assignedTo, search, userId, role, pageable);
-        return ResponseEntity.ok(tasks);
+            WebRequest webRequest) {
+        return withProjectETag(projectId, userId, role, webRequest,
+                () -> taskService.getBoard(projectId, limit, userId, role));
     }
 
+    /**
+     * GET /api/v1/tasks/board/columns/{statusId}?projectId=&cursor=
+     * Suite d'une colonne du tableau à partir du curseur renvoyé par /board
+     */
+    @GetMapping("/board/columns/{statusId}")
+    public ResponseEntity<BoardColumnResponse> getBoardColumn(
+            @PathVariable Long statusId,
+            @RequestParam Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role,
+            WebRequest webRequest) {
+        return withProjectETag(projectId, userId, role, webRequest,
+                () -> taskService.getBoardColumn(projectId, statusId, cursor, limit, userId, role));
+    }
+
+    /**
+     * PATCH /api/v1/tasks/reorder
+     * Appliquer plusieurs déplacements de cartes en une requête et une transaction
+     */
+    @PatchMapping("/reorder")
+    public ResponseEntity<List<ColumnOrderResponse>> reorderTasks(
+            @Valid @RequestBody ReorderTasksRequest request,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role) {
+        List<ColumnOrderResponse> columns = taskService.reorderTasks(request, userId, role);
+        return ResponseEntity.ok(columns);
+    }
+
+    /**
+     * GET /api/v1/tasks/{id}
+     * ETag = version de la tâche, à renvoyer dans If-Match pour la modifier
+     */
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getTaskById(
             @PathVariable Long id,
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role) {
         TaskResponse task = taskService.getTaskById(id, userId, role);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(TaskVersionTag.of(task.getVersion())).body(task);
     }
 
+    /**
+     * PUT /api/v1/tasks/{id}
+     * If-Match optionnel : 412 si la tâche a changé depuis, 409 si modifiée pendant la requête
+     */
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
             @Valid @RequestBody TaskRequest request,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role) {
-        TaskResponse task = taskService.updateTask(id, request, userId, role);
-        return ResponseEntity.ok(task);
+        TaskResponse task = taskService.updateTask(id, request, TaskVersionTag.parseIfMatch(ifMatch), userId, role);
+        return ResponseEntity.ok().eTag(TaskVersionTag.of(task.getVersion())).body(task);
     }
 
     /**
      * PATCH /api/v1/tasks/{id}/status
      * Mettre à jour le statut d'une tâche (drag & drop)
+     * If-Match optionnel comme PUT ; sans If-Match, un simple changement de place est rejoué en cas de conflit
      */
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @PathVariable Long id,
             @Valid @RequestBody UpdateTaskStatusRequest request,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role) {
 
-        TaskResponse task = taskService.updateTaskStatus(id, request, userId, role);
-        return ResponseEntity.ok(task);
+        TaskResponse task = taskService.updateTaskStatus(
+                id, request, TaskVersionTag.parseIfMatch(ifMatch), userId, role);
+        return ResponseEntity.ok().eTag(TaskVersionTag.of(task.getVersion())).body(task);
     }
 
     /**
@@ -92,11 +241,59 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * GET /api/v1/tasks/stats?projectId=
+     * Identité optionnelle : absente pour les appels internes du Project Service
+     */
     @GetMapping("/stats")
     public ResponseEntity<TaskStatsResponse> getTaskStats(
-            @RequestParam Long projectId) {
+            @RequestParam Long projectId,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId,
+            @RequestHeader(value = "X-User-Role", required = false) String role) {
 
-        TaskStatsResponse stats = taskService.getTaskStatsByProject(projectId);
+        TaskStatsResponse stats = taskService.getTaskStatsByProject(projectId, userId, role);
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * GET /api/v1/tasks/status-migrations/{statusId}
+     * Avancement du déplacement des tâches d'une colonne supprimée
+     */
+    @GetMapping("/status-migrations/{statusId}")
+    public ResponseEntity<StatusMigrationResponse> getStatusMigration(
+            @PathVariable Long statusId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role) {
+
+        StatusMigrationResponse migration = taskService.getStatusMigration(statusId, userId, role);
+        return ResponseEntity.ok(migration);
+    }
+
+    /**
+     * Requête conditionnelle sur la version du projet
+     * - If-None-Match identique : 304 sans requête de liste ni appel à Project Service
+     * - Sinon : corps calculé, renvoyé avec l'ETag (à revalider à chaque lecture)
+     */
+    private <T> ResponseEntity<T> withProjectETag(Long projectId, Long userId, String role,
+                                                  WebRequest webRequest, Supplier<T> body) {
+        String etag = taskService.getProjectETag(projectId, userId, role);
+        CacheControl revalidate = CacheControl.noCache().cachePrivate();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(revalidate).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(revalidate).body(body.get());
+    }
+
+    private TaskFilter taskFilter(Long projectId, List<Long> statusIds, List<Priority> priorities, Long assignedTo,
+                                  LocalDate dueFrom, LocalDate dueTo, String search) {
+        return TaskFilter.builder()
+                .projectId(projectId)
+                .statusIds(statusIds)
+                .priorities(priorities)
+                .assignedTo(assignedTo)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .search(search)
+                .build();
+    }
 }
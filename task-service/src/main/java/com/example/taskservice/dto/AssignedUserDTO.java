@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Profil public de l'assigné d'une tâche, lu dans l'annuaire local
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,6 +16,5 @@ public class AssignedUserDTO {
     private Long id;
     private String firstName;
     private String lastName;
-    private String email;
     private String avatarUrl;
 }
@@ -0,0 +1,23 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Une colonne du tableau Kanban avec ses cartes triées par rank
+ * nextCursor permet de charger la suite de la colonne (null si tout est chargé)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumnResponse {
+    private StatusDTO status;
+    private List<TaskResponse> tasks;
+    private boolean hasMore;
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Tableau Kanban complet : toutes les colonnes du projet avec leurs cartes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardResponse {
+    private Long projectId;
+    private List<BoardColumnResponse> columns;
+}
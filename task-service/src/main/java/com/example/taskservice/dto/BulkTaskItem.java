@@ -0,0 +1,38 @@
+package com.example.taskservice.dto;
+
+import com.example.taskservice.entity.Priority;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Une carte d'un import groupé (le projet est porté par la requête)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskItem {
+
+    @NotBlank(message = "Title is required")
+    @Size(min = 3, max = 100, message = "Title must be between 3 and 100 characters")
+    private String title;
+
+    private String description;
+
+    /**
+     * Colonne cible ; premier statut du projet si absent
+     */
+    private Long statusId;
+
+    private Priority priority;
+
+    private LocalDate dueDate;
+
+    private Long assignedTo;
+}
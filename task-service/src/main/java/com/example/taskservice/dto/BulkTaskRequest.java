@@ -0,0 +1,31 @@
+package com.example.taskservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Création groupée de cartes dans un projet (import de backlog)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskRequest {
+
+    public static final int MAX_TASKS = 5000;
+
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = MAX_TASKS, message = "At most " + MAX_TASKS + " tasks per request")
+    private List<@Valid BulkTaskItem> tasks;
+}
@@ -0,0 +1,20 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Nouvel ordre d'une colonne après réordonnancement : IDs des cartes de haut en bas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnOrderResponse {
+    private Long statusId;
+    private List<Long> taskIds;
+}
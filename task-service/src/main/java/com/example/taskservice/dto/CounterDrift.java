@@ -0,0 +1,21 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compteur de task_counters qui ne correspondait pas au nombre réel de tâches
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterDrift {
+    private Long projectId;
+    private Long statusId;
+    private Long assignedTo;  // 0 = non assigné
+    private Long storedCount;
+    private Long actualCount;
+}
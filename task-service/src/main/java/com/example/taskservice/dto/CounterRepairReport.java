@@ -5,13 +5,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
+/**
+ * Résultat d'une réparation de task_counters
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ProjectDTO {
-    private Long id;
-    private String title;
-    private String description;
-    private Long ownerId;
+public class CounterRepairReport {
+    private Integer checkedCounters;
+    private List<CounterDrift> drifts;
 }
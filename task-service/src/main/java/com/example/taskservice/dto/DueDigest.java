@@ -0,0 +1,26 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Résumé des échéances d'un utilisateur : tâches ouvertes en retard et à échéance proche
+ * Les listes sont tronquées (échéance la plus ancienne d'abord), les compteurs sont complets
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueDigest {
+    private Long userId;
+    private LocalDate date;
+    private List<DueTaskItem> overdue;
+    private List<DueTaskItem> dueSoon;
+    private Integer overdueCount;
+    private Integer dueSoonCount;
+}
@@ -0,0 +1,24 @@
+package com.example.taskservice.dto;
+
+import com.example.taskservice.entity.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Tâche citée dans un résumé d'échéances
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueTaskItem {
+    private Long id;
+    private Long projectId;
+    private String title;
+    private Priority priority;
+    private LocalDate dueDate;
+}
@@ -0,0 +1,20 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Décision d'accès d'un utilisateur à un projet (ADMIN, OWNER, MEMBER ou NONE)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAccessDTO {
+    private Long projectId;
+    private Long userId;
+    private String accessLevel;
+    private boolean granted;
+}
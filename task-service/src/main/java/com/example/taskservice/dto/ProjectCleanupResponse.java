@@ -0,0 +1,22 @@
+package com.example.taskservice.dto;
+
+import com.example.taskservice.entity.JobState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectCleanupResponse {
+    private Long projectId;
+    private JobState state;
+    private Long deletedTasks;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,25 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Contexte d'un projet renvoyé par Project Service en un seul appel
+ * - Décision d'accès de l'utilisateur
+ * - Statuts ordonnés par position (vides si l'accès est refusé)
+ * - Version du contexte, incrémentée à chaque changement de statuts ou de membres
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectContextDTO {
+    private Long projectId;
+    private ProjectAccessDTO access;
+    private List<StatusDTO> statuses;
+    private Long version;
+}
@@ -0,0 +1,26 @@
+package com.example.taskservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Réordonnancement groupé des cartes d'un projet (un drag qui décale toute une colonne)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderTasksRequest {
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    @NotEmpty(message = "At least one move is required")
+    private List<@Valid TaskMoveRequest> moves;
+}
@@ -0,0 +1,25 @@
+package com.example.taskservice.dto;
+
+import com.example.taskservice.entity.JobState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusMigrationResponse {
+    private Long statusId;
+    private Long projectId;
+    private Long targetStatusId;
+    private JobState state;
+    private Long totalTasks;
+    private Long movedTasks;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
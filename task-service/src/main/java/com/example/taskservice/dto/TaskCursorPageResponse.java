@@ -0,0 +1,23 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page de tâches paginée par curseur (sans COUNT)
+ * nextCursor est null sur la dernière page ; estimatedTotal n'est renseigné que sur demande
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCursorPageResponse {
+    private List<TaskResponse> content;
+    private boolean hasMore;
+    private String nextCursor;
+    private Long estimatedTotal;
+}
@@ -0,0 +1,32 @@
+package com.example.taskservice.dto;
+
+import com.example.taskservice.entity.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filtres combinables d'une liste de tâches (tous optionnels, combinés par AND)
+ * Les listes acceptent plusieurs valeurs (OR à l'intérieur d'un même filtre)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private Long projectId;
+    private List<Long> statusIds;
+    private List<Priority> priorities;
+    private Long assignedTo;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private String search;
+
+    public boolean hasSearch() {
+        return search != null && !search.isBlank();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskservice.dto;
+
+/**
+ * Tri d'une liste de tâches paginée par curseur
+ * CREATED_AT : plus récentes d'abord ; RANK : ordre des colonnes du tableau
+ * DUE_DATE : échéance la plus proche d'abord, tâches sans échéance exclues
+ */
+public enum TaskListSort {
+    CREATED_AT,
+    RANK,
+    DUE_DATE
+}
@@ -0,0 +1,30 @@
+package com.example.taskservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Un déplacement de carte dans un réordonnancement groupé
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMoveRequest {
+    @NotNull(message = "Task ID is required")
+    private Long taskId;
+
+    @NotNull(message = "Status ID is required")
+    private Long statusId;
+
+    /**
+     * Index visé dans la colonne après réordonnancement (0 = haut)
+     */
+    @NotNull(message = "Position is required")
+    @Min(value = 0, message = "Position must be positive")
+    private Integer position;
+}
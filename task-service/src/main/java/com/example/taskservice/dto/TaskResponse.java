@@ -1,6 +1,7 @@
 package com.example.taskservice.dto;
 
 import com.example.taskservice.entity.Priority;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,13 +17,39 @@ import java.time.LocalDateTime;
 public class TaskResponse {
     private Long id;
     private String title;
+    /**
+     * Seulement pour une tâche lue par son ID : absente des listes et du tableau
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String description;
+    /**
+     * Listes et tableau uniquement : début de la description, pour l'affichage des cartes
+     * Lire la tâche par son ID (description complète) avant de la modifier
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String descriptionPreview;
     private StatusDTO status;
     private Priority priority;
     private LocalDate dueDate;
     private Long projectId;
     private Long assignedUser;
-    private Integer position;
+    /**
+     * Nom et avatar de l'assigné (annuaire local des utilisateurs) ; null si non assignée ou inconnu
+     */
+    private AssignedUserDTO assignee;
+    /**
+     * Clé d'ordre de la carte dans sa colonne (tri croissant)
+     */
+    private Long position;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /**
+     * Version de la tâche, à renvoyer dans If-Match pour modifier la carte
+     */
+    private Long version;
+    /**
+     * Recherche uniquement : titre et extrait de la description, termes trouvés dans <mark> (HTML échappé)
+     */
+    private String highlightedTitle;
+    private String snippet;
 }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,7 +14,14 @@ import lombok.NoArgsConstructor;
 public class TaskStatsResponse {
     private Long projectId;
     private Integer totalTasks;
+    /**
+     * Colonnes reconnues par leur nom ; null si les statuts du projet ne sont pas connus
+     */
     private Integer todoTasks;
     private Integer inProgressTasks;
     private Integer doneTasks;
+    /**
+     * Nombre de tâches de chaque colonne (clé = ID du statut), dans l'ordre des colonnes
+     */
+    private Map<Long, Integer> tasksByStatus;
 }
@@ -14,5 +14,18 @@ public class UpdateTaskStatusRequest {
     @NotNull(message = "Status ID is required")
     private Long statusId;
 
+    /**
+     * Index visé dans la colonne (0 = haut), utilisé si aucune voisine n'est donnée
+     */
     private Integer position;
+
+    /**
+     * Carte qui sera juste au-dessus (null = haut de la colonne)
+     */
+    private Long previousTaskId;
+
+    /**
+     * Carte qui sera juste en dessous (null = bas de la colonne)
+     */
+    private Long nextTaskId;
 }
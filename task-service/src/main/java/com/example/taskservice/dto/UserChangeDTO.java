@@ -0,0 +1,26 @@
+package com.example.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changement d'un utilisateur notifié par Auth Service (profil public)
+ * changedAt ordonne les changements d'un même utilisateur
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeDTO {
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String avatarUrl;
+    private Boolean active;
+    private boolean deleted;
+    private LocalDateTime changedAt;
+}
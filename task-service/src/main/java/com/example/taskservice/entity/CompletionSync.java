@@ -0,0 +1,27 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recalcul de completed_at demandé pour les tâches d'un projet (statuts renommés)
+ * requestedAt change à chaque nouvelle demande : une demande reçue pendant le recalcul n'est pas perdue
+ */
+@Entity
+@Table(name = "completion_syncs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionSync {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+}
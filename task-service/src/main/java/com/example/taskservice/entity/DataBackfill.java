@@ -0,0 +1,26 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rattrapage de données ponctuel terminé, qui ne sera plus relancé
+ */
+@Entity
+@Table(name = "data_backfills")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataBackfill {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,44 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Utilisateur de l'annuaire local : profil public répliqué depuis Auth Service
+ * Seules les écritures de UserDirectoryRepository le modifient (upsert ordonné par changedAt)
+ */
+@Entity
+@Table(name = "user_directory")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectoryUser {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "first_name", length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", length = 50)
+    private String lastName;
+
+    @Column(name = "avatar_url")
+    private String avatarUrl;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
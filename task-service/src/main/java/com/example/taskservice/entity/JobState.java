@@ -0,0 +1,11 @@
+package com.example.taskservice.entity;
+
+/**
+ * État d'un traitement de fond (migration de statut, nettoyage de projet)
+ */
+public enum JobState {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,47 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Suppression des tâches d'un projet supprimé par Project Service
+ * Les tâches restantes sont la source de vérité : une suppression interrompue
+ * reprend simplement avec les lots suivants
+ */
+@Entity
+@Table(name = "project_cleanups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectCleanup {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobState state = JobState.PENDING;
+
+    @Column(nullable = false)
+    private long deletedTasks;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Version des tâches d'un projet, incrémentée dans la même transaction
+ * que chaque écriture de tâche (et à chaque changement de ses statuts)
+ * Les listes et le tableau en tirent leur ETag
+ */
+@Entity
+@Table(name = "project_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectVersion {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long version;
+}
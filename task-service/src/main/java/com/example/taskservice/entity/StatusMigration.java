@@ -0,0 +1,59 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Déplacement des tâches d'un statut supprimé vers un autre statut du projet
+ * Identifié par le statut supprimé ; l'avancement est enregistré à chaque lot,
+ * une migration interrompue reprend là où elle s'est arrêtée
+ */
+@Entity
+@Table(name = "status_migrations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusMigration {
+
+    @Id
+    @Column(name = "status_id")
+    private Long statusId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "target_status_id", nullable = false)
+    private Long targetStatusId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobState state = JobState.PENDING;
+
+    /**
+     * Nombre de tâches du statut au démarrage de la migration
+     */
+    @Column(nullable = false)
+    private long totalTasks;
+
+    @Column(nullable = false)
+    private long movedTasks;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
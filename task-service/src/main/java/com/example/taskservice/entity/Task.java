@@ -10,6 +10,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * Schéma et index : migrations Flyway (src/main/resources/db/migration)
+ */
 @Entity
 @Table(name = "tasks")
 @Data
@@ -17,8 +20,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Task {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * ID tiré d'une séquence par blocs (pooled) : permet les INSERT par lots JDBC,
+     * impossibles avec IDENTITY
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = Task.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -43,8 +53,19 @@ public class Task {
     @Column
     private Long assignedTo;
 
-    @Column(nullable = false)
-    private Integer position = 0;
+    /**
+     * Clé d'ordre de la carte dans sa colonne (entiers espacés)
+     * Déplacer une carte entre deux voisines n'écrit que cette ligne
+     */
+    @Column(name = "rank_key", nullable = false)
+    private Long rank;
+
+    /**
+     * Posé quand la tâche entre dans une colonne "Done", effacé quand elle en sort (TaskCompletion)
+     * Les index partiels des échéances ne couvrent que les tâches ouvertes (null)
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -53,4 +74,12 @@ public class Task {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * Verrouillage optimiste : incrémentée à chaque modification, exposée en ETag
+     * Une écriture concurrente sur une version périmée échoue au lieu d'écraser l'autre
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nombre de tâches par (projet, colonne, assigné), tenu à jour dans la même
+ * transaction que chaque écriture de tâche
+ * Les statistiques lisent quelques lignes par colonne au lieu de compter les tâches
+ */
+@Entity
+@Table(name = "task_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounter {
+
+    @EmbeddedId
+    private TaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+}
@@ -0,0 +1,48 @@
+package com.example.taskservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * Clé d'un compteur : projet, colonne et assigné
+ * Une colonne de clé primaire ne peut pas être NULL : les tâches non assignées
+ * sont comptées sous UNASSIGNED
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounterId implements Serializable, Comparable<TaskCounterId> {
+
+    public static final long UNASSIGNED = 0L;
+
+    private static final Comparator<TaskCounterId> ORDER = Comparator
+            .comparing(TaskCounterId::getProjectId)
+            .thenComparing(TaskCounterId::getStatusId)
+            .thenComparing(TaskCounterId::getAssignedTo);
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "status_id", nullable = false)
+    private Long statusId;
+
+    @Column(name = "assigned_to", nullable = false)
+    private Long assignedTo;
+
+    public static TaskCounterId of(Task task) {
+        return new TaskCounterId(task.getProjectId(), task.getStatusId(),
+                task.getAssignedTo() != null ? task.getAssignedTo() : UNASSIGNED);
+    }
+
+    @Override
+    public int compareTo(TaskCounterId other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when tasks of a project are created, updated, moved or deleted
+ * ProjectVersions bumps the project version inside the transaction;
+ * cache listeners run after the transaction is committed
+ */
+@Data
+@AllArgsConstructor
+public class TasksChangedEvent {
+    private Long projectId;
+}
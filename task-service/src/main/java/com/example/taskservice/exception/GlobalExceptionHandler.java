@@ -1,6 +1,9 @@
 package com.example.taskservice.exception;
 
+import com.example.taskservice.dto.TaskResponse;
+import com.example.taskservice.service.TaskVersionTag;
 import feign.FeignException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -45,6 +48,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    /**
+     * Service distant indisponible (circuit ouvert, bulkhead plein, délai dépassé) sans donnée de repli :
+     * 503 immédiat, le client peut réessayer plus tard
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    /**
+     * 412 / 409 avec l'état courant de la tâche et son ETag
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<TaskResponse> handleTaskVersionConflictException(TaskVersionConflictException ex) {
+        return ResponseEntity.status(ex.getStatus())
+                .eTag(TaskVersionTag.of(ex.getCurrent().getVersion()))
+                .body(ex.getCurrent());
+    }
+
+    /**
+     * Écriture concurrente non rattrapée par le service (ex. réordonnancement groupé)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .message("Tasks were modified concurrently, reload and retry")
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         List<String> errors = new ArrayList<>();
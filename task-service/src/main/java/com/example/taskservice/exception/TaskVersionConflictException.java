@@ -0,0 +1,34 @@
+package com.example.taskservice.exception;
+
+import com.example.taskservice.dto.TaskResponse;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Modification refusée car la tâche a changé depuis sa lecture
+ * - 412 : la version de If-Match n'est plus la version courante
+ * - 409 : une écriture concurrente a été validée pendant la modification
+ * La réponse porte l'état courant de la tâche pour que le client puisse le réappliquer
+ */
+@Getter
+public class TaskVersionConflictException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final TaskResponse current;
+
+    private TaskVersionConflictException(String message, HttpStatus status, TaskResponse current) {
+        super(message);
+        this.status = status;
+        this.current = current;
+    }
+
+    public static TaskVersionConflictException preconditionFailed(TaskResponse current) {
+        return new TaskVersionConflictException("Task version does not match If-Match",
+                HttpStatus.PRECONDITION_FAILED, current);
+    }
+
+    public static TaskVersionConflictException conflict(TaskResponse current) {
+        return new TaskVersionConflictException("Task was modified concurrently",
+                HttpStatus.CONFLICT, current);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.CompletionSync;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository des recalculs de completed_at en attente
+ */
+@Repository
+public interface CompletionSyncRepository extends JpaRepository<CompletionSync, Long> {
+
+    /**
+     * Enregistrer une demande, ou dater à nouveau celle déjà en attente
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO completion_syncs (project_id, requested_at) VALUES (:projectId, :requestedAt) " +
+            "ON CONFLICT (project_id) DO UPDATE SET requested_at = EXCLUDED.requested_at",
+            nativeQuery = true)
+    void request(@Param("projectId") Long projectId, @Param("requestedAt") LocalDateTime requestedAt);
+
+    List<CompletionSync> findAllByOrderByRequestedAtAsc(Pageable pageable);
+
+    /**
+     * Retirer la demande traitée, sauf si une nouvelle est arrivée entre-temps
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CompletionSync s WHERE s.projectId = :projectId AND s.requestedAt = :requestedAt")
+    int deleteIfUnchanged(@Param("projectId") Long projectId, @Param("requestedAt") LocalDateTime requestedAt);
+}
@@ -0,0 +1,15 @@
+package com.example.taskservice.repository;
+
+/**
+ * Nombre réel de tâches d'une clé de compteur (projet, colonne, assigné)
+ */
+public interface CounterKeyCount {
+
+    Long getProjectId();
+
+    Long getStatusId();
+
+    Long getAssignedTo();
+
+    Long getTaskCount();
+}
@@ -0,0 +1,12 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.DataBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository des rattrapages de données terminés
+ */
+@Repository
+public interface DataBackfillRepository extends JpaRepository<DataBackfill, String> {
+}
@@ -0,0 +1,31 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.JobState;
+import com.example.taskservice.entity.ProjectCleanup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository des suppressions de tâches des projets supprimés
+ */
+@Repository
+public interface ProjectCleanupRepository extends JpaRepository<ProjectCleanup, Long> {
+
+    List<ProjectCleanup> findByStateInOrderByCreatedAtAsc(Collection<JobState> states);
+
+    /**
+     * Verrouiller le nettoyage pendant un lot : deux instances ne suppriment jamais
+     * les tâches du même projet en même temps
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ProjectCleanup c WHERE c.projectId = :projectId")
+    Optional<ProjectCleanup> findForUpdate(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,32 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.ProjectVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Repository des versions de projet (ETag des listes de tâches)
+ */
+@Repository
+public interface ProjectVersionRepository extends JpaRepository<ProjectVersion, Long> {
+
+    /**
+     * Incrémenter la version du projet, en créant la ligne si besoin
+     * Rejoint la transaction de l'écriture, ou en ouvre une (tâches de fond)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO project_versions (project_id, version) VALUES (:projectId, 1) " +
+            "ON CONFLICT (project_id) DO UPDATE SET version = project_versions.version + 1",
+            nativeQuery = true)
+    void increment(@Param("projectId") Long projectId);
+
+    @Query("SELECT v.version FROM ProjectVersion v WHERE v.projectId = :projectId")
+    Optional<Long> findVersion(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,31 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.JobState;
+import com.example.taskservice.entity.StatusMigration;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository des migrations de tâches des statuts supprimés
+ */
+@Repository
+public interface StatusMigrationRepository extends JpaRepository<StatusMigration, Long> {
+
+    List<StatusMigration> findByStateInOrderByCreatedAtAsc(Collection<JobState> states);
+
+    /**
+     * Verrouiller la migration pendant un lot : deux instances ne traitent jamais
+     * la même migration en même temps
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM StatusMigration m WHERE m.statusId = :statusId")
+    Optional<StatusMigration> findForUpdate(@Param("statusId") Long statusId);
+}
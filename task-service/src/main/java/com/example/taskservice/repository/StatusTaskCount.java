@@ -0,0 +1,11 @@
+package com.example.taskservice.repository;
+
+/**
+ * Nombre de tâches d'une colonne (statut)
+ */
+public interface StatusTaskCount {
+
+    Long getStatusId();
+
+    Long getTaskCount();
+}
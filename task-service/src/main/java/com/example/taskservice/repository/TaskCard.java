@@ -0,0 +1,36 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.Priority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Carte d'une tâche pour les listes et le tableau : la description (TEXT) est réduite
+ * à ses PREVIEW_LENGTH premiers caractères
+ * Projection en lecture seule, jamais attachée au contexte de persistance
+ */
+public record TaskCard(
+        Long id,
+        String title,
+        Long statusId,
+        Priority priority,
+        LocalDate dueDate,
+        Long projectId,
+        Long assignedTo,
+        Long rank,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version,
+        String descriptionPreview
+) {
+
+    public static final int PREVIEW_LENGTH = 200;
+
+    /**
+     * Expression JPQL construisant une carte à partir de l'alias t
+     */
+    public static final String SELECT_CARD = "SELECT new com.example.taskservice.repository.TaskCard(" +
+            "t.id, t.title, t.statusId, t.priority, t.dueDate, t.projectId, t.assignedTo, t.rank, " +
+            "t.createdAt, t.updatedAt, t.version, substring(t.description, 1, " + PREVIEW_LENGTH + ")) ";
+}
@@ -0,0 +1,44 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.TaskCounter;
+import com.example.taskservice.entity.TaskCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository du modèle de lecture task_counters
+ */
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId> {
+
+    /**
+     * Ajouter delta au compteur, en créant la ligne si besoin
+     * Atomique côté PostgreSQL : pas de lecture préalable, pas de perte sous concurrence
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_counters (project_id, status_id, assigned_to, task_count) " +
+            "VALUES (:projectId, :statusId, :assignedTo, :delta) " +
+            "ON CONFLICT (project_id, status_id, assigned_to) " +
+            "DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count",
+            nativeQuery = true)
+    void increment(@Param("projectId") Long projectId,
+                   @Param("statusId") Long statusId,
+                   @Param("assignedTo") Long assignedTo,
+                   @Param("delta") long delta);
+
+    /**
+     * Nombre de tâches de chaque colonne du projet (quelques lignes par colonne)
+     */
+    @Query("SELECT c.id.statusId AS statusId, SUM(c.taskCount) AS taskCount FROM TaskCounter c " +
+            "WHERE c.id.projectId = :projectId GROUP BY c.id.statusId HAVING SUM(c.taskCount) > 0")
+    List<StatusTaskCount> sumByStatus(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM TaskCounter c WHERE c.id.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
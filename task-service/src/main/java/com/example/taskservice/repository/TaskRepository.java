@@ -1,55 +1,60 @@
 package com.example.taskservice.repository;
 
-import com.example.taskservice.entity.Priority;
 import com.example.taskservice.entity.Task;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Task entity
  * All queries use statusId (Long) instead of status entity
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
 
     // ===== Find by Project =====
 
-    Page<Task> findByProjectId(Long projectId, Pageable pageable);
-
-    List<Task> findByProjectIdOrderByPositionAsc(Long projectId);
+    List<Task> findByProjectIdOrderByRankAsc(Long projectId);
 
     // ===== Find by Status ID =====
 
-    Page<Task> findByStatusId(Long statusId, Pageable pageable);
+    List<Task> findByStatusIdOrderByRankAsc(Long statusId);
 
-    List<Task> findByStatusIdOrderByPositionAsc(Long statusId);
+    /**
+     * First tasks of a column, used to move a deleted status's tasks chunk by chunk
+     */
+    List<Task> findByStatusIdOrderByRankAscIdAsc(Long statusId, Pageable pageable);
 
     // ===== Find by Project and Status ID =====
 
-    Page<Task> findByProjectIdAndStatusId(Long projectId, Long statusId, Pageable pageable);
-
-    List<Task> findByProjectIdAndStatusIdOrderByPositionAsc(Long projectId, Long statusId);
-
-    // ===== Find by Assigned User =====
+    List<Task> findByProjectIdAndStatusIdOrderByRankAsc(Long projectId, Long statusId);
 
-    Page<Task> findByAssignedTo(Long assignedTo, Pageable pageable);
+    List<Task> findByProjectIdAndStatusIdInOrderByRankAscIdAsc(Long projectId, Collection<Long> statusIds);
 
-    Page<Task> findByProjectIdAndAssignedTo(Long projectId, Long assignedTo, Pageable pageable);
-
-    // ===== Find by Priority =====
-
-    Page<Task> findByPriority(Priority priority, Pageable pageable);
-
-    Page<Task> findByProjectIdAndPriority(Long projectId, Priority priority, Pageable pageable);
+    // ===== Filtered listings =====
+    // Filtres combinés : voir TaskSpecifications (JpaSpecificationExecutor)
 
     // ===== Count Methods =====
 
+    /**
+     * Recompter toutes les tâches par clé de compteur (réparation de task_counters)
+     */
+    @Query("SELECT t.projectId AS projectId, t.statusId AS statusId, " +
+            "COALESCE(t.assignedTo, 0) AS assignedTo, COUNT(t) AS taskCount FROM Task t " +
+            "GROUP BY t.projectId, t.statusId, t.assignedTo")
+    List<CounterKeyCount> countTasksByCounterKey();
+
     Long countByProjectId(Long projectId);
 
     Long countByProjectIdAndStatusId(Long projectId, Long statusId);
@@ -58,35 +63,185 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     Long countByAssignedTo(Long assignedTo);
 
+    /**
+     * Projects where the user has assigned tasks, in project ID order
+     */
+    @Query(value = "SELECT DISTINCT project_id FROM tasks WHERE assigned_to = :userId ORDER BY project_id",
+            nativeQuery = true)
+    List<Long> findProjectIdsByAssignedTo(@Param("userId") Long userId);
+
+    // ===== Completion Backfill =====
+
+    /**
+     * Next batch of projects that still have open tasks, in project ID order
+     */
+    @Query(value = "SELECT DISTINCT project_id FROM tasks WHERE completed_at IS NULL AND project_id > :afterProjectId " +
+            "ORDER BY project_id LIMIT :limit", nativeQuery = true)
+    List<Long> findProjectIdsWithOpenTasks(@Param("afterProjectId") Long afterProjectId, @Param("limit") int limit);
+
+    /**
+     * Close the open tasks of the given "Done" columns, dated by their last update
+     * The version is bumped so an edit based on the open task is rejected
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET completed_at = updated_at, version = version + 1 " +
+            "WHERE status_id IN (:statusIds) AND completed_at IS NULL", nativeQuery = true)
+    int backfillCompletedAt(@Param("statusIds") Collection<Long> statusIds);
+
+    // ===== Completion Sync =====
+
+    /**
+     * Close the next batch of open tasks of the given "Done" columns
+     * The version is bumped so an edit based on the open task is rejected
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET completed_at = :completedAt, version = version + 1 WHERE id IN (" +
+            "SELECT id FROM tasks WHERE status_id IN (:statusIds) AND completed_at IS NULL LIMIT :limit)",
+            nativeQuery = true)
+    int closeOpenTasks(@Param("statusIds") Collection<Long> statusIds,
+                       @Param("completedAt") LocalDateTime completedAt,
+                       @Param("limit") int limit);
+
+    /**
+     * Reopen the next batch of completed tasks of the given columns (no longer "Done")
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET completed_at = NULL, version = version + 1 WHERE id IN (" +
+            "SELECT id FROM tasks WHERE status_id IN (:statusIds) AND completed_at IS NOT NULL LIMIT :limit)",
+            nativeQuery = true)
+    int reopenCompletedTasks(@Param("statusIds") Collection<Long> statusIds, @Param("limit") int limit);
+
     // ===== Delete Methods =====
 
     /**
-     * Delete all tasks for a project
-     * Use when project is deleted
+     * Next batch of task IDs of a deleted project, served by the project_id indexes
      */
-    void deleteByProjectId(Long projectId);
+    @Query(value = "SELECT id FROM tasks WHERE project_id = :projectId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
 
     /**
-     * Move all tasks from one status to another
-     * Use when a status is deleted in Project Service
+     * Set-based delete of one batch, no entity is loaded
      */
-    @Query("UPDATE Task t SET t.statusId = :newStatusId WHERE t.statusId = :oldStatusId")
-    void moveTasksToStatus(@Param("oldStatusId") Long oldStatusId, @Param("newStatusId") Long newStatusId);
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
-    // ===== Position Management =====
 
-    // ===== Search =====
+    // ===== Board =====
+
+    /**
+     * Cards of a project for the board, at most :limit per column (description not loaded)
+     * Single query sorted by (status_id, rank_key, id) so columns can be grouped in one pass
+     */
+    @Query(TaskCard.SELECT_CARD + "FROM Task t WHERE t.id IN (" +
+            "SELECT r.id FROM (" +
+            "SELECT x.id AS id, ROW_NUMBER() OVER (PARTITION BY x.statusId ORDER BY x.rank, x.id) AS rn " +
+            "FROM Task x WHERE x.projectId = :projectId) r " +
+            "WHERE r.rn <= :limit) " +
+            "ORDER BY t.statusId, t.rank, t.id")
+    List<TaskCard> findBoardCards(@Param("projectId") Long projectId, @Param("limit") int limit);
 
-    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId AND " +
-            "(LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-            "LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Task> searchTasksByProject(
+    /**
+     * Next cards of a column after a (rank, id) cursor
+     */
+    @Query(TaskCard.SELECT_CARD + "FROM Task t WHERE t.projectId = :projectId AND t.statusId = :statusId AND " +
+            "(t.rank > :rank OR (t.rank = :rank AND t.id > :id)) " +
+            "ORDER BY t.rank ASC, t.id ASC")
+    List<TaskCard> findColumnCardsAfter(
             @Param("projectId") Long projectId,
-            @Param("search") String search,
+            @Param("statusId") Long statusId,
+            @Param("rank") Long rank,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // ===== Due Dates =====
+
+    /**
+     * Next open, assigned cards due before :horizon after an (assignedTo, dueDate, id) cursor
+     * Keyset walk of the partial index idx_tasks_open_assignee_due (due digests);
+     * the redundant assignedTo bound lets the index scan start at the cursor's user
+     */
+    @Query(TaskCard.SELECT_CARD + "FROM Task t WHERE t.completedAt IS NULL AND t.dueDate IS NOT NULL " +
+            "AND t.assignedTo IS NOT NULL AND t.dueDate < :horizon " +
+            "AND t.assignedTo >= :assignedTo AND (t.assignedTo > :assignedTo OR t.dueDate > :dueDate " +
+            "OR (t.dueDate = :dueDate AND t.id > :id)) " +
+            "ORDER BY t.assignedTo ASC, t.dueDate ASC, t.id ASC")
+    List<TaskCard> findOpenAssignedCardsDueBefore(
+            @Param("horizon") LocalDate horizon,
+            @Param("assignedTo") Long assignedTo,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") Long id,
             Pageable pageable
     );
 
-    @Query(value = "SELECT COALESCE(MAX(position), -1) FROM tasks WHERE status_id = :statusId",
+    // ===== Rank Management =====
+
+    /**
+     * Highest rank of a column, served by the (status_id, rank_key) index
+     */
+    @Query(value = "SELECT MAX(rank_key) FROM tasks WHERE status_id = :statusId", nativeQuery = true)
+    Long findMaxRankByStatusId(@Param("statusId") Long statusId);
+
+    /**
+     * Rank of a task, only if it belongs to the given column
+     */
+    @Query(value = "SELECT rank_key FROM tasks WHERE id = :id AND status_id = :statusId", nativeQuery = true)
+    Optional<Long> findRankInColumn(@Param("id") Long id, @Param("statusId") Long statusId);
+
+    /**
+     * Ranks of the cards around a target index of a column, the moving task excluded
+     */
+    @Query(value = "SELECT rank_key FROM tasks WHERE status_id = :statusId AND id <> :excludedId " +
+            "ORDER BY rank_key, id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> findRanksAt(
+            @Param("statusId") Long statusId,
+            @Param("excludedId") Long excludedId,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Transaction-scoped advisory lock on the ranks of a column (key = status ID, the only
+     * advisory lock of this schema): rank computations and re-spacing of a column run one after the other
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:statusId)", nativeQuery = true)
+    Integer lockColumnRanks(@Param("statusId") Long statusId);
+
+    /**
+     * Re-space the ranks of a column (gap * row number), the moving task excluded
+     * Set-based; only the rows of that column are locked
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tasks t SET rank_key = r.rn * :gap FROM (" +
+            "SELECT id, ROW_NUMBER() OVER (ORDER BY rank_key, id) AS rn " +
+            "FROM tasks WHERE status_id = :statusId AND id <> :excludedId) r " +
+            "WHERE t.id = r.id",
+            nativeQuery = true)
+    int rebalanceColumn(@Param("statusId") Long statusId, @Param("excludedId") Long excludedId, @Param("gap") long gap);
+
+    // ===== Search =====
+    // search_vector (tsvector généré) et les index GIN sont créés par les migrations Flyway
+
+    String ESCAPED_TITLE =
+            "replace(replace(replace(task.title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    String ESCAPED_DESCRIPTION =
+            "replace(replace(replace(coalesce(task.description, ''), '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    /**
+     * Titre et extraits surlignés des tâches d'une page de résultats de recherche
+     * (HTML échappé, termes trouvés dans <mark>) ; le filtrage est fait par TaskSpecifications
+     */
+    @Query(value = "SELECT task.id AS id, " +
+            "ts_headline('simple', " + ESCAPED_TITLE + ", hit.query, " +
+            "'HighlightAll=true, StartSel=<mark>, StopSel=</mark>') AS highlightedTitle, " +
+            "ts_headline('simple', " + ESCAPED_DESCRIPTION + ", hit.query, " +
+            "'MaxFragments=2, MaxWords=20, MinWords=5, StartSel=<mark>, StopSel=</mark>') AS snippet " +
+            "FROM tasks task, websearch_to_tsquery('simple', :search) AS hit(query) " +
+            "WHERE task.id IN (:ids)",
             nativeQuery = true)
-    Integer findMaxPositionByStatusId(@Param("statusId") Long statusId);
-}
\ No newline at end of file
+    List<TaskSearchHit> findSearchHighlights(@Param("ids") Collection<Long> ids, @Param("search") String search);
+}
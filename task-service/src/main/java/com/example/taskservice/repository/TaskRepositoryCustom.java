@@ -0,0 +1,32 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.dto.TaskFilter;
+import com.example.taskservice.entity.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Requêtes de TaskRepository qui ne s'expriment pas en JPQL / @Query
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Nombre de tâches estimé par le planificateur PostgreSQL (EXPLAIN), sans COUNT
+     * La recherche texte n'est pas prise en compte (estimation majorée)
+     */
+    long estimateCount(TaskFilter filter);
+
+    /**
+     * Page de cartes (sans description) correspondant aux critères, avec COUNT
+     */
+    Page<TaskCard> findCards(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Premières cartes (sans description) correspondant aux critères, sans COUNT
+     */
+    List<TaskCard> findCards(Specification<Task> spec, Sort sort, int limit);
+}
@@ -0,0 +1,121 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.dto.TaskFilter;
+import com.example.taskservice.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long estimateCount(TaskFilter filter) {
+        // EXPLAIN n'accepte pas de paramètres liés : seuls des Long, des enums et des dates
+        // (jamais de texte libre) sont insérés dans la requête
+        StringBuilder sql = new StringBuilder("EXPLAIN SELECT 1 FROM tasks WHERE true");
+        if (filter.getProjectId() != null) {
+            sql.append(" AND project_id = ").append(filter.getProjectId().longValue());
+        }
+        if (filter.getStatusIds() != null && !filter.getStatusIds().isEmpty()) {
+            sql.append(" AND status_id IN (")
+                    .append(filter.getStatusIds().stream().map(id -> String.valueOf(id.longValue()))
+                            .collect(Collectors.joining(", ")))
+                    .append(")");
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            sql.append(" AND priority IN (")
+                    .append(filter.getPriorities().stream().map(p -> "'" + p.name() + "'")
+                            .collect(Collectors.joining(", ")))
+                    .append(")");
+        }
+        if (filter.getAssignedTo() != null) {
+            sql.append(" AND assigned_to = ").append(filter.getAssignedTo().longValue());
+        }
+        if (filter.getDueFrom() != null) {
+            sql.append(" AND due_date >= DATE '").append(filter.getDueFrom()).append("'");
+        }
+        if (filter.getDueTo() != null) {
+            sql.append(" AND due_date <= DATE '").append(filter.getDueTo()).append("'");
+        }
+
+        // Première ligne du plan : "... (cost=... rows=N width=...)"
+        List<?> plan = entityManager.createNativeQuery(sql.toString()).getResultList();
+        if (plan.isEmpty()) {
+            return 0L;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+
+    @Override
+    public Page<TaskCard> findCards(Specification<Task> spec, Pageable pageable) {
+        TypedQuery<TaskCard> query = cardQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TaskCard> findCards(Specification<Task> spec, Sort sort, int limit) {
+        return cardQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Requête Criteria des cartes : seules les colonnes affichées sont sélectionnées
+     * Un tri explicite remplace celui éventuellement posé par la Specification (pertinence)
+     */
+    private TypedQuery<TaskCard> cardQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskCard> query = cb.createQuery(TaskCard.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(TaskCard.class,
+                root.get("id"), root.get("title"), root.get("statusId"), root.get("priority"),
+                root.get("dueDate"), root.get("projectId"), root.get("assignedTo"), root.get("rank"),
+                root.get("createdAt"), root.get("updatedAt"), root.get("version"),
+                cb.substring(root.get("description"), 1, TaskCard.PREVIEW_LENGTH)));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskservice.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Fonctions Hibernate pour utiliser la recherche plein texte dans les Specifications
+ * search_vector n'est pas mappé sur Task : les fonctions passent par l'ID de la tâche
+ * (sous-requête servie par les index GIN créés par les migrations Flyway)
+ * Enregistré via META-INF/services/org.hibernate.boot.model.FunctionContributor
+ */
+public class TaskSearchFunctions implements FunctionContributor {
+
+    /**
+     * task_text_match(id, search, search, search) : la tâche correspond à la recherche
+     * Mots (tsvector), sous-chaîne du titre (ILIKE) ou titre proche (trigrammes)
+     */
+    public static final String MATCH = "task_text_match";
+
+    /**
+     * task_text_rank(id, search, search) : pertinence de la tâche pour la recherche
+     */
+    public static final String RANK = "task_text_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH,
+                "(?1 in (select s.id from tasks s cross join websearch_to_tsquery('simple', ?2) q " +
+                        "where s.search_vector @@ q or s.title ilike ('%' || ?3 || '%') or ?4 <% s.title))",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                RANK,
+                "(select ts_rank(s.search_vector, websearch_to_tsquery('simple', ?2)) + word_similarity(?3, s.title) " +
+                        "from tasks s where s.id = ?1)",
+                types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
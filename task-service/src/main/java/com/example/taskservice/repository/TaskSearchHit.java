@@ -0,0 +1,19 @@
+package com.example.taskservice.repository;
+
+/**
+ * Extraits surlignés d'une tâche trouvée par la recherche
+ */
+public interface TaskSearchHit {
+
+    Long getId();
+
+    /**
+     * Titre échappé avec les termes trouvés dans <mark>
+     */
+    String getHighlightedTitle();
+
+    /**
+     * Fragments de la description autour des termes trouvés
+     */
+    String getSnippet();
+}
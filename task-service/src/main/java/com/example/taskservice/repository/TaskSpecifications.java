@@ -0,0 +1,154 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.dto.TaskFilter;
+import com.example.taskservice.entity.Priority;
+import com.example.taskservice.entity.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Critères composables pour les listes de tâches
+ * Seuls les filtres fournis sont ajoutés à la requête (pas de "OR :param IS NULL")
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Combiner tous les filtres fournis en une seule requête
+     */
+    public static Specification<Task> matching(TaskFilter filter) {
+        Specification<Task> spec = Specification.where(null);
+        if (filter.getProjectId() != null) {
+            spec = spec.and(inProject(filter.getProjectId()));
+        }
+        if (filter.getStatusIds() != null && !filter.getStatusIds().isEmpty()) {
+            spec = spec.and(hasStatusIn(filter.getStatusIds()));
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            spec = spec.and(hasPriorityIn(filter.getPriorities()));
+        }
+        if (filter.getAssignedTo() != null) {
+            spec = spec.and(assignedTo(filter.getAssignedTo()));
+        }
+        if (filter.getDueFrom() != null) {
+            spec = spec.and(dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            spec = spec.and(dueOnOrBefore(filter.getDueTo()));
+        }
+        if (filter.hasSearch()) {
+            spec = spec.and(matchesText(filter.getSearch().trim()));
+        }
+        return spec;
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("projectId"), projectId);
+    }
+
+    public static Specification<Task> hasStatus(Long statusId) {
+        return (root, query, cb) -> cb.equal(root.get("statusId"), statusId);
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<Long> statusIds) {
+        return (root, query, cb) -> root.get("statusId").in(statusIds);
+    }
+
+    public static Specification<Task> hasPriorityIn(Collection<Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTo"), userId);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> hasDueDate() {
+        return (root, query, cb) -> cb.isNotNull(root.get("dueDate"));
+    }
+
+    /**
+     * Tâches ouvertes (pas dans une colonne "Done") : prédicat des index partiels d'échéance
+     */
+    public static Specification<Task> open() {
+        return (root, query, cb) -> cb.isNull(root.get("completedAt"));
+    }
+
+    /**
+     * Recherche plein texte / trigrammes (voir TaskSearchFunctions)
+     */
+    public static Specification<Task> matchesText(String search) {
+        return (root, query, cb) -> {
+            Expression<String> text = bound(cb, search);
+            return cb.isTrue(cb.function(TaskSearchFunctions.MATCH, Boolean.class, root.get("id"), text, text, text));
+        };
+    }
+
+    /**
+     * Trier par pertinence de la recherche (puis par id) ; sans effet sur la requête COUNT
+     */
+    public static Specification<Task> orderedByRelevance(String search) {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                Expression<String> text = bound(cb, search);
+                query.orderBy(
+                        cb.desc(cb.function(TaskSearchFunctions.RANK, Double.class, root.get("id"), text, text)),
+                        cb.asc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Seek pour le tri (createdAt DESC, id DESC) : tâches après (createdAt, id)
+     */
+    public static Specification<Task> createdBefore(LocalDateTime createdAt, long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+    }
+
+    /**
+     * Seek pour le tri (rank ASC, id ASC) : tâches après (rank, id)
+     */
+    public static Specification<Task> rankedAfter(long rank, long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("rank"), rank),
+                cb.and(cb.equal(root.get("rank"), rank), cb.greaterThan(root.get("id"), id)));
+    }
+
+    /**
+     * Seek pour le tri (dueDate ASC, id ASC) : tâches après (dueDate, id)
+     */
+    public static Specification<Task> dueAfter(LocalDate dueDate, long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("dueDate"), dueDate),
+                cb.and(cb.equal(root.get("dueDate"), dueDate), cb.greaterThan(root.get("id"), id)));
+    }
+
+    /**
+     * Valeur liée en paramètre JDBC (cb.literal l'insérerait dans le SQL)
+     */
+    private static Expression<String> bound(CriteriaBuilder cb, String value) {
+        return ((HibernateCriteriaBuilder) cb).value(value);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.entity.DirectoryUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository de l'annuaire local des utilisateurs
+ */
+@Repository
+public interface UserDirectoryRepository extends JpaRepository<DirectoryUser, Long> {
+
+    /**
+     * Appliquer un changement notifié par Auth Service, sauf si un changement plus récent est déjà là
+     * Retourne 0 si le changement était périmé
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO user_directory (user_id, first_name, last_name, avatar_url, active, deleted, changed_at) " +
+            "VALUES (:userId, :firstName, :lastName, :avatarUrl, :active, :deleted, :changedAt) " +
+            "ON CONFLICT (user_id) DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name, " +
+            "avatar_url = EXCLUDED.avatar_url, active = EXCLUDED.active, deleted = EXCLUDED.deleted, " +
+            "changed_at = EXCLUDED.changed_at " +
+            "WHERE user_directory.changed_at <= EXCLUDED.changed_at",
+            nativeQuery = true)
+    int applyChange(@Param("userId") Long userId,
+                    @Param("firstName") String firstName,
+                    @Param("lastName") String lastName,
+                    @Param("avatarUrl") String avatarUrl,
+                    @Param("active") boolean active,
+                    @Param("deleted") boolean deleted,
+                    @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * Ajouter un utilisateur lu auprès d'Auth Service s'il est encore inconnu
+     * Une notification arrivée entre-temps est plus fiable : elle n'est jamais écrasée
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO user_directory (user_id, first_name, last_name, avatar_url, active, deleted, changed_at) " +
+            "VALUES (:userId, :firstName, :lastName, :avatarUrl, :active, :deleted, :changedAt) " +
+            "ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("firstName") String firstName,
+                       @Param("lastName") String lastName,
+                       @Param("avatarUrl") String avatarUrl,
+                       @Param("active") boolean active,
+                       @Param("deleted") boolean deleted,
+                       @Param("changedAt") LocalDateTime changedAt);
+}
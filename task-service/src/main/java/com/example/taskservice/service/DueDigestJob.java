@@ -0,0 +1,154 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.DueDigest;
+import com.example.taskservice.dto.DueTaskItem;
+import com.example.taskservice.repository.TaskCard;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Résumés quotidiens des échéances, un par utilisateur assigné
+ * - Tâches ouvertes en retard (échéance passée) et à échéance proche (dans horizon-days jours)
+ * - Parcours par lots sur (assignedTo, dueDate, id), servi par l'index partiel idx_tasks_open_assignee_due :
+ *   pas d'OFFSET, mémoire bornée par la taille d'un lot
+ * - Les résumés complets d'un lot partent ensemble vers DueDigestSink (asynchrone),
+ *   jamais une notification par tâche ; un utilisateur à cheval sur deux lots reste groupé
+ */
+@Component
+@Slf4j
+public class DueDigestJob {
+
+    private final TaskRepository taskRepository;
+    private final DueDigestSink sink;
+    private final int horizonDays;
+    private final int batchSize;
+    private final int maxTasksPerList;
+
+    public DueDigestJob(TaskRepository taskRepository,
+                        DueDigestSink sink,
+                        @Value("${app.due-digest.horizon-days:3}") int horizonDays,
+                        @Value("${app.due-digest.batch-size:1000}") int batchSize,
+                        @Value("${app.due-digest.max-tasks-per-list:20}") int maxTasksPerList) {
+        this.taskRepository = taskRepository;
+        this.sink = sink;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.maxTasksPerList = maxTasksPerList;
+    }
+
+    @Scheduled(cron = "${app.due-digest.cron:0 0 7 * * *}")
+    public void sendDailyDigests() {
+        try {
+            int sent = sendDigests(LocalDate.now());
+            log.info("Due digests sent to {} users", sent);
+        } catch (Exception e) {
+            log.error("Failed to send due digests", e);
+        }
+    }
+
+    /**
+     * Construire et envoyer les résumés du jour ; retourne le nombre de résumés envoyés
+     */
+    public int sendDigests(LocalDate today) {
+        LocalDate horizon = today.plusDays(horizonDays + 1L);
+        // Curseur initial avant toute tâche assignée (ids utilisateurs > 0)
+        long assignedTo = 0L;
+        LocalDate dueDate = today;
+        long id = 0L;
+
+        DigestBuilder current = null;
+        int sent = 0;
+        List<TaskCard> batch;
+        do {
+            batch = taskRepository.findOpenAssignedCardsDueBefore(
+                    horizon, assignedTo, dueDate, id, PageRequest.of(0, batchSize));
+
+            List<DueDigest> completed = new ArrayList<>();
+            for (TaskCard card : batch) {
+                if (current == null || !current.userId.equals(card.assignedTo())) {
+                    if (current != null) {
+                        completed.add(current.build());
+                    }
+                    current = new DigestBuilder(card.assignedTo(), today);
+                }
+                current.add(card);
+            }
+            if (!completed.isEmpty()) {
+                sink.send(completed);
+                sent += completed.size();
+            }
+
+            if (!batch.isEmpty()) {
+                TaskCard last = batch.get(batch.size() - 1);
+                assignedTo = last.assignedTo();
+                dueDate = last.dueDate();
+                id = last.id();
+            }
+        } while (batch.size() == batchSize);
+
+        if (current != null) {
+            sink.send(List.of(current.build()));
+            sent++;
+        }
+        return sent;
+    }
+
+    /**
+     * Résumé en cours de construction d'un utilisateur
+     */
+    private final class DigestBuilder {
+
+        private final Long userId;
+        private final LocalDate today;
+        private final List<DueTaskItem> overdue = new ArrayList<>();
+        private final List<DueTaskItem> dueSoon = new ArrayList<>();
+        private int overdueCount;
+        private int dueSoonCount;
+
+        private DigestBuilder(Long userId, LocalDate today) {
+            this.userId = userId;
+            this.today = today;
+        }
+
+        private void add(TaskCard card) {
+            if (card.dueDate().isBefore(today)) {
+                overdueCount++;
+                addCapped(overdue, card);
+            } else {
+                dueSoonCount++;
+                addCapped(dueSoon, card);
+            }
+        }
+
+        private void addCapped(List<DueTaskItem> items, TaskCard card) {
+            if (items.size() < maxTasksPerList) {
+                items.add(DueTaskItem.builder()
+                        .id(card.id())
+                        .projectId(card.projectId())
+                        .title(card.title())
+                        .priority(card.priority())
+                        .dueDate(card.dueDate())
+                        .build());
+            }
+        }
+
+        private DueDigest build() {
+            return DueDigest.builder()
+                    .userId(userId)
+                    .date(today)
+                    .overdue(overdue)
+                    .dueSoon(dueSoon)
+                    .overdueCount(overdueCount)
+                    .dueSoonCount(dueSoonCount)
+                    .build();
+        }
+    }
+}
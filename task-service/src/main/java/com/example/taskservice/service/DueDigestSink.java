@@ -0,0 +1,14 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.DueDigest;
+
+import java.util.List;
+
+/**
+ * Canal de notification des résumés d'échéances
+ * Asynchrone : send() rend la main sans attendre la livraison, un lot de résumés par appel
+ */
+public interface DueDigestSink {
+
+    void send(List<DueDigest> digests);
+}
@@ -0,0 +1,40 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.DueDigest;
+import com.example.taskservice.dto.DueTaskItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Canal local en attendant un service de notification : journalise les résumés
+ * sur l'executor applicatif, hors du thread du job
+ */
+@Component
+@Slf4j
+public class LoggingDueDigestSink implements DueDigestSink {
+
+    private final AsyncTaskExecutor executor;
+
+    public LoggingDueDigestSink(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                AsyncTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void send(List<DueDigest> digests) {
+        executor.execute(() -> digests.forEach(digest ->
+                log.info("Due digest for user {}: {} overdue {}, {} due soon {}",
+                        digest.getUserId(),
+                        digest.getOverdueCount(), taskIds(digest.getOverdue()),
+                        digest.getDueSoonCount(), taskIds(digest.getDueSoon()))));
+    }
+
+    private static List<Long> taskIds(List<DueTaskItem> items) {
+        return items.stream().map(DueTaskItem::getId).toList();
+    }
+}
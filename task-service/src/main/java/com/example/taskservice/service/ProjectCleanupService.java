@@ -0,0 +1,175 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.ProjectCleanupResponse;
+import com.example.taskservice.entity.JobState;
+import com.example.taskservice.entity.ProjectCleanup;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.ResourceNotFoundException;
+import com.example.taskservice.repository.ProjectCleanupRepository;
+import com.example.taskservice.repository.TaskCounterRepository;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Suppression des tâches d'un projet supprimé par Project Service
+ * - La demande est enregistrée (PENDING) puis traitée en tâche de fond
+ * - DELETE ... WHERE id IN (...) par lots de taille fixe, chacun dans sa propre transaction :
+ *   verrous courts, WAL étalé, pause configurable entre deux lots
+ * - Reprise après redémarrage : les lots suivants portent sur les tâches restantes
+ */
+@Service
+@Slf4j
+public class ProjectCleanupService {
+
+    private static final Set<JobState> ACTIVE_STATES = EnumSet.of(JobState.PENDING, JobState.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ProjectCleanupRepository cleanupRepository;
+    private final TaskRepository taskRepository;
+    private final TaskCounterRepository counterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long batchPauseMs;
+
+    public ProjectCleanupService(ProjectCleanupRepository cleanupRepository,
+                                 TaskRepository taskRepository,
+                                 TaskCounterRepository counterRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.project-cleanup.batch-size:1000}") int batchSize,
+                                 @Value("${app.project-cleanup.batch-pause-ms:200}") long batchPauseMs) {
+        this.cleanupRepository = cleanupRepository;
+        this.taskRepository = taskRepository;
+        this.counterRepository = counterRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    /**
+     * Enregistrer la suppression des tâches d'un projet
+     * Idempotent : une notification reçue deux fois ne crée qu'un nettoyage,
+     * un nettoyage terminé ou en échec est relancé
+     */
+    public ProjectCleanupResponse requestCleanup(Long projectId) {
+        ProjectCleanup saved = transactionTemplate.execute(tx -> {
+            Optional<ProjectCleanup> existing = cleanupRepository.findForUpdate(projectId);
+            if (existing.isPresent() && ACTIVE_STATES.contains(existing.get().getState())) {
+                return existing.get();
+            }
+
+            ProjectCleanup cleanup = existing.orElseGet(() -> {
+                ProjectCleanup created = new ProjectCleanup();
+                created.setProjectId(projectId);
+                return created;
+            });
+            cleanup.setState(JobState.PENDING);
+            cleanup.setLastError(null);
+            cleanup.setCompletedAt(null);
+            return cleanupRepository.save(cleanup);
+        });
+        log.info("Deletion of the tasks of deleted project {} requested", projectId);
+        return mapToResponse(saved);
+    }
+
+    public ProjectCleanupResponse getCleanup(Long projectId) {
+        return cleanupRepository.findById(projectId)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Project cleanup not found"));
+    }
+
+    /**
+     * Traiter les nettoyages en attente ou interrompus (redémarrage compris)
+     * Peut durer plusieurs minutes : le pool de planification (spring.task.scheduling.pool.size)
+     * a un thread par tâche planifiée pour ne pas retarder les autres
+     */
+    @Scheduled(fixedDelayString = "${app.project-cleanup.poll-delay-ms:5000}")
+    public void processPendingCleanups() {
+        for (ProjectCleanup cleanup : cleanupRepository.findByStateInOrderByCreatedAtAsc(ACTIVE_STATES)) {
+            try {
+                run(cleanup.getProjectId());
+            } catch (InterruptedException e) {
+                // Arrêt du service : le nettoyage reste RUNNING et reprendra au démarrage
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Deletion of the tasks of deleted project {} failed", cleanup.getProjectId(), e);
+                markFailed(cleanup.getProjectId(), e);
+            }
+        }
+    }
+
+    // ========== MÉTHODES PRIVÉES ==========
+
+    private void run(Long projectId) throws InterruptedException {
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(tx -> deleteBatch(projectId));
+            if (deleted != null && deleted > 0 && batchPauseMs > 0) {
+                Thread.sleep(batchPauseMs);
+            }
+        } while (deleted != null && deleted > 0);
+    }
+
+    /**
+     * Supprimer le lot suivant de tâches du projet
+     * Retourne le nombre de tâches supprimées (0 = nettoyage terminé)
+     */
+    private int deleteBatch(Long projectId) {
+        Optional<ProjectCleanup> locked = cleanupRepository.findForUpdate(projectId);
+        if (locked.isEmpty() || !ACTIVE_STATES.contains(locked.get().getState())) {
+            return 0;
+        }
+        ProjectCleanup cleanup = locked.get();
+
+        List<Long> ids = taskRepository.findIdsByProjectId(projectId, batchSize);
+        if (ids.isEmpty()) {
+            // Compteurs supprimés à la fin : le projet n'est plus lisible pendant le nettoyage
+            counterRepository.deleteByProjectId(projectId);
+            cleanup.setState(JobState.COMPLETED);
+            cleanup.setCompletedAt(LocalDateTime.now());
+            eventPublisher.publishEvent(new TasksChangedEvent(projectId));
+            log.info("Deletion of deleted project {} completed, {} tasks deleted", projectId, cleanup.getDeletedTasks());
+            return 0;
+        }
+
+        int deleted = taskRepository.deleteByIdIn(ids);
+        cleanup.setState(JobState.RUNNING);
+        cleanup.setDeletedTasks(cleanup.getDeletedTasks() + deleted);
+        log.debug("Deleted {} tasks of deleted project {} ({} so far)", deleted, projectId, cleanup.getDeletedTasks());
+        return ids.size();
+    }
+
+    private void markFailed(Long projectId, Exception error) {
+        String message = String.valueOf(error.getMessage());
+        transactionTemplate.executeWithoutResult(tx -> cleanupRepository.findById(projectId).ifPresent(cleanup -> {
+            cleanup.setState(JobState.FAILED);
+            cleanup.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        }));
+    }
+
+    private ProjectCleanupResponse mapToResponse(ProjectCleanup cleanup) {
+        return ProjectCleanupResponse.builder()
+                .projectId(cleanup.getProjectId())
+                .state(cleanup.getState())
+                .deletedTasks(cleanup.getDeletedTasks())
+                .lastError(cleanup.getLastError())
+                .createdAt(cleanup.getCreatedAt())
+                .completedAt(cleanup.getCompletedAt())
+                .build();
+    }
+}
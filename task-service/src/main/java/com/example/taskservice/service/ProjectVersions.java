@@ -0,0 +1,59 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.repository.ProjectVersionRepository;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Version des tâches de chaque projet, source des ETag des listes et du tableau
+ * - Incrémentée dans la transaction de l'écriture, juste avant son commit : données et version validées ensemble,
+ *   et le verrou de la ligne du projet n'est tenu que le temps du commit
+ * - Lue en une ligne par clé primaire avant toute requête de liste
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectVersions {
+
+    private final ProjectVersionRepository versionRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Publié en fin d'écriture, traité avant le commit de la transaction en cours
+     * Sans transaction (tâches de fond) : traité aussitôt dans sa propre transaction
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTasksChanged(TasksChangedEvent event) {
+        bump(event.getProjectId());
+    }
+
+    /**
+     * Invalider les ETag du projet (ex. statuts renommés ou supprimés : les cartes affichées changent)
+     */
+    @Transactional
+    public void bump(Long projectId) {
+        versionRepository.increment(projectId);
+    }
+
+    /**
+     * Invalider les ETag des projets où l'utilisateur a des tâches assignées (nom et avatar affichés sur les cartes)
+     * Projets incrémentés dans l'ordre de leur ID : pas d'interblocage avec une autre notification
+     */
+    @Transactional
+    public void bumpProjectsAssignedTo(Long userId) {
+        taskRepository.findProjectIdsByAssignedTo(userId).forEach(versionRepository::increment);
+    }
+
+    /**
+     * ETag fort de la version courante du projet (0 tant qu'aucune tâche n'a été écrite)
+     */
+    @Transactional(readOnly = true)
+    public String etag(Long projectId) {
+        long version = versionRepository.findVersion(projectId).orElse(0L);
+        return "\"" + projectId + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.exception.BadRequestException;
+import com.example.taskservice.repository.TaskCard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Curseur opaque de continuation d'une colonne : (rank, id) de la dernière carte renvoyée
+ */
+public final class RankCursor {
+
+    public static final RankCursor START = new RankCursor(Long.MIN_VALUE, 0L);
+
+    private final long rank;
+    private final long id;
+
+    private RankCursor(long rank, long id) {
+        this.rank = rank;
+        this.id = id;
+    }
+
+    public static RankCursor after(TaskCard card) {
+        return new RankCursor(card.rank(), card.id());
+    }
+
+    public static RankCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new RankCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = rank + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Lancer en parallèle des vérifications indépendantes auprès de Project Service
+ * (accès, statut...) pour qu'une requête attende la plus lente au lieu de leur somme
+ *
+ * Utilisation, dans un try-with-resources :
+ * - fork() pour chaque vérification, puis join() avant de lire les résultats
+ * - Premier échec : les autres vérifications sont annulées et l'exception d'origine est relancée
+ * - Délai global dépassé : tout est annulé, ServiceUnavailableException (503) comme les autres échecs distants
+ * - Sortie du bloc (exception comprise) : ce qui tourne encore est annulé
+ *
+ * Exécuté sur l'executor applicatif de Spring Boot (pool borné, ou virtual threads si activés)
+ */
+@Component
+@Slf4j
+public class RemoteLookups {
+
+    private final AsyncTaskExecutor executor;
+    private final Duration timeout;
+
+    public RemoteLookups(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                         AsyncTaskExecutor executor,
+                         @Value("${app.remote-lookups.timeout-ms:3000}") long timeoutMs) {
+        this.executor = executor;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * Ouvrir une portée ; le délai global court à partir de l'ouverture
+     */
+    public Scope open() {
+        return new Scope(System.nanoTime() + timeout.toNanos());
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final CompletionService<Object> completions = new ExecutorCompletionService<>(executor);
+        private final List<Future<Object>> forks = new ArrayList<>();
+        private final long deadline;
+        private boolean joined;
+
+        private Scope(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * Lancer une vérification qui retourne un résultat, lisible après join()
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Supplier<T> fork(Callable<T> lookup) {
+            Future<Object> future = completions.submit((Callable<Object>) lookup);
+            forks.add(future);
+            return () -> {
+                if (!joined) {
+                    throw new IllegalStateException("Remote lookup read before join()");
+                }
+                return (T) resultOf(future);
+            };
+        }
+
+        /**
+         * Lancer une vérification sans résultat (elle échoue par exception)
+         */
+        public void fork(Runnable lookup) {
+            forks.add(completions.submit(lookup, null));
+        }
+
+        /**
+         * Attendre toutes les vérifications, dans l'ordre où elles se terminent
+         */
+        public void join() {
+            for (int done = 0; done < forks.size(); done++) {
+                Future<Object> completed;
+                try {
+                    completed = completions.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    cancelAll();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for remote lookups", e);
+                }
+
+                if (completed == null) {
+                    cancelAll();
+                    log.warn("Remote lookups did not complete within {} ms", timeout.toMillis());
+                    throw new ServiceUnavailableException("Project Service did not answer in time", null);
+                }
+                try {
+                    resultOf(completed);
+                } catch (RuntimeException | Error e) {
+                    cancelAll();
+                    throw e;
+                }
+            }
+            joined = true;
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            forks.forEach(future -> future.cancel(true));
+        }
+
+        /**
+         * Résultat d'une vérification terminée, avec l'exception d'origine en cas d'échec
+         */
+        private Object resultOf(Future<Object> future) {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Remote lookup failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading a remote lookup", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.cache.ProjectStatusCache;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.dto.StatusMigrationResponse;
+import com.example.taskservice.entity.JobState;
+import com.example.taskservice.entity.StatusMigration;
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.BadRequestException;
+import com.example.taskservice.exception.ResourceNotFoundException;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.StatusMigrationRepository;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Déplacement des tâches d'un statut supprimé par Project Service
+ * - La demande est enregistrée (PENDING) puis traitée en tâche de fond
+ * - Les tâches sont déplacées par lots, chacun dans sa propre transaction,
+ *   et ajoutées à la fin de la colonne cible dans leur ordre d'origine
+ * - Leur date de fin suit la colonne cible (TaskCompletion), lue auprès de Project Service
+ * - L'avancement est enregistré avec chaque lot : une migration interrompue reprend au lot suivant
+ */
+@Service
+@Slf4j
+public class StatusMigrationService {
+
+    private static final Set<JobState> ACTIVE_STATES = EnumSet.of(JobState.PENDING, JobState.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StatusMigrationRepository migrationRepository;
+    private final TaskRepository taskRepository;
+    private final TaskRanking taskRanking;
+    private final TaskCounters taskCounters;
+    private final ProjectStatusCache statusCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+
+    public StatusMigrationService(StatusMigrationRepository migrationRepository,
+                                  TaskRepository taskRepository,
+                                  TaskRanking taskRanking,
+                                  TaskCounters taskCounters,
+                                  ProjectStatusCache statusCache,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.status-migration.chunk-size:500}") int chunkSize,
+                                  @Value("${app.status-migration.chunk-pause-ms:0}") long chunkPauseMs) {
+        this.migrationRepository = migrationRepository;
+        this.taskRepository = taskRepository;
+        this.taskRanking = taskRanking;
+        this.taskCounters = taskCounters;
+        this.statusCache = statusCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    /**
+     * Enregistrer la migration des tâches d'un statut supprimé
+     * Idempotent : une notification reçue deux fois ne crée qu'une migration,
+     * une migration terminée ou en échec est relancée
+     */
+    public StatusMigrationResponse requestMigration(Long projectId, Long statusId, Long targetStatusId) {
+        if (statusId.equals(targetStatusId)) {
+            throw new BadRequestException("Cannot move tasks to the status being deleted");
+        }
+
+        StatusMigration saved = transactionTemplate.execute(tx -> {
+            Optional<StatusMigration> existing = migrationRepository.findForUpdate(statusId);
+            if (existing.isPresent() && ACTIVE_STATES.contains(existing.get().getState())) {
+                return existing.get();
+            }
+
+            StatusMigration migration = existing.orElseGet(() -> {
+                StatusMigration created = new StatusMigration();
+                created.setStatusId(statusId);
+                created.setProjectId(projectId);
+                return created;
+            });
+            migration.setState(JobState.PENDING);
+            migration.setTargetStatusId(targetStatusId);
+            migration.setTotalTasks(migration.getMovedTasks() + taskRepository.countByStatusId(statusId));
+            migration.setLastError(null);
+            migration.setCompletedAt(null);
+            return migrationRepository.save(migration);
+        });
+        log.info("Migration of the tasks of deleted status {} to status {} requested ({} tasks)",
+                statusId, targetStatusId, saved.getTotalTasks());
+        return mapToResponse(saved);
+    }
+
+    public StatusMigrationResponse getMigration(Long statusId) {
+        return migrationRepository.findById(statusId)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Status migration not found"));
+    }
+
+    /**
+     * Traiter les migrations en attente ou interrompues (redémarrage compris)
+     */
+    @Scheduled(fixedDelayString = "${app.status-migration.poll-delay-ms:2000}")
+    public void processPendingMigrations() {
+        for (StatusMigration migration : migrationRepository.findByStateInOrderByCreatedAtAsc(ACTIVE_STATES)) {
+            try {
+                run(migration.getStatusId());
+            } catch (InterruptedException e) {
+                // Arrêt du service : la migration reste RUNNING et reprendra au démarrage
+                Thread.currentThread().interrupt();
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                // Une carte du lot a été modifiée en même temps : lot annulé, repris au prochain passage
+                log.info("Chunk of deleted status {} hit a concurrent task update, retrying later",
+                        migration.getStatusId());
+            } catch (ServiceUnavailableException e) {
+                // Colonne cible illisible sans Project Service : lot annulé, repris au prochain passage
+                log.info("Statuses of project {} unavailable, migration of deleted status {} retried later",
+                        migration.getProjectId(), migration.getStatusId());
+            } catch (Exception e) {
+                log.error("Migration of the tasks of deleted status {} failed", migration.getStatusId(), e);
+                markFailed(migration.getStatusId(), e);
+            }
+        }
+    }
+
+    // ========== MÉTHODES PRIVÉES ==========
+
+    private void run(Long statusId) throws InterruptedException {
+        Integer moved;
+        do {
+            moved = transactionTemplate.execute(tx -> migrateChunk(statusId));
+            if (moved != null && moved > 0 && chunkPauseMs > 0) {
+                Thread.sleep(chunkPauseMs);
+            }
+        } while (moved != null && moved > 0);
+    }
+
+    /**
+     * Déplacer le lot suivant : les premières tâches du statut supprimé,
+     * ajoutées à la fin de la colonne cible avec des ranks espacés
+     * Retourne le nombre de tâches déplacées (0 = migration terminée)
+     */
+    private int migrateChunk(Long statusId) {
+        Optional<StatusMigration> locked = migrationRepository.findForUpdate(statusId);
+        if (locked.isEmpty() || !ACTIVE_STATES.contains(locked.get().getState())) {
+            return 0;
+        }
+        StatusMigration migration = locked.get();
+        Long targetStatusId = resolveTarget(migration);
+
+        List<Task> chunk = taskRepository.findByStatusIdOrderByRankAscIdAsc(statusId, PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            migration.setState(JobState.COMPLETED);
+            migration.setCompletedAt(LocalDateTime.now());
+            log.info("Migration of deleted status {} completed, {} tasks moved to status {}",
+                    statusId, migration.getMovedTasks(), targetStatusId);
+            return 0;
+        }
+
+        StatusDTO target = findTargetStatus(migration.getProjectId(), targetStatusId);
+        Map<Long, TaskCounterId> previousKeys = new HashMap<>();
+        long rank = taskRanking.rankForAppend(targetStatusId);
+        for (Task task : chunk) {
+            previousKeys.put(task.getId(), TaskCounterId.of(task));
+            task.setStatusId(targetStatusId);
+            TaskCompletion.apply(task, target);
+            task.setRank(rank);
+            rank += TaskRanking.GAP;
+        }
+        taskCounters.tasksMoved(previousKeys, chunk);
+
+        migration.setState(JobState.RUNNING);
+        migration.setMovedTasks(migration.getMovedTasks() + chunk.size());
+        eventPublisher.publishEvent(new TasksChangedEvent(migration.getProjectId()));
+        log.debug("Moved {} tasks of deleted status {} ({}/{})",
+                chunk.size(), statusId, migration.getMovedTasks(), migration.getTotalTasks());
+        return chunk.size();
+    }
+
+    /**
+     * Si le statut cible a lui-même été supprimé depuis, suivre sa propre migration
+     */
+    private Long resolveTarget(StatusMigration migration) {
+        Long targetStatusId = migration.getTargetStatusId();
+        Set<Long> visited = new HashSet<>();
+        visited.add(migration.getStatusId());
+        Optional<StatusMigration> next = migrationRepository.findById(targetStatusId);
+        while (next.isPresent() && visited.add(targetStatusId)) {
+            targetStatusId = next.get().getTargetStatusId();
+            next = migrationRepository.findById(targetStatusId);
+        }
+        if (visited.contains(targetStatusId)) {
+            throw new IllegalStateException("Status migrations of status " + migration.getStatusId() + " form a cycle");
+        }
+
+        if (!targetStatusId.equals(migration.getTargetStatusId())) {
+            log.info("Target status {} of deleted status {} was deleted too, moving tasks to status {}",
+                    migration.getTargetStatusId(), migration.getStatusId(), targetStatusId);
+            migration.setTargetStatusId(targetStatusId);
+        }
+        return targetStatusId;
+    }
+
+    private StatusDTO findTargetStatus(Long projectId, Long targetStatusId) {
+        return statusCache.getStatusesInternal(projectId).stream()
+                .filter(status -> status.getId().equals(targetStatusId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Target status " + targetStatusId + " is unknown to Project Service"));
+    }
+
+    private void markFailed(Long statusId, Exception error) {
+        String message = String.valueOf(error.getMessage());
+        transactionTemplate.executeWithoutResult(tx -> migrationRepository.findById(statusId).ifPresent(migration -> {
+            migration.setState(JobState.FAILED);
+            migration.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        }));
+    }
+
+    private StatusMigrationResponse mapToResponse(StatusMigration migration) {
+        return StatusMigrationResponse.builder()
+                .statusId(migration.getStatusId())
+                .projectId(migration.getProjectId())
+                .targetStatusId(migration.getTargetStatusId())
+                .state(migration.getState())
+                .totalTasks(migration.getTotalTasks())
+                .movedTasks(migration.getMovedTasks())
+                .lastError(migration.getLastError())
+                .createdAt(migration.getCreatedAt())
+                .completedAt(migration.getCompletedAt())
+                .build();
+    }
+}
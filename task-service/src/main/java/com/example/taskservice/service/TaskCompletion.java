@@ -0,0 +1,33 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.entity.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tâche terminée ou ouverte, selon sa colonne
+ * Project Service ne type pas ses statuts : une colonne nommée "Done" termine la tâche
+ * (même convention que les statistiques todo / inProgress / done)
+ */
+public final class TaskCompletion {
+
+    private TaskCompletion() {
+    }
+
+    public static boolean isDone(StatusDTO status) {
+        return status != null && "Done".equalsIgnoreCase(status.getName());
+    }
+
+    /**
+     * Mettre à jour completedAt après un changement de colonne
+     * La date de fin d'une tâche déjà terminée est conservée
+     */
+    public static void apply(Task task, StatusDTO status) {
+        if (!isDone(status)) {
+            task.setCompletedAt(null);
+        } else if (task.getCompletedAt() == null) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+    }
+}
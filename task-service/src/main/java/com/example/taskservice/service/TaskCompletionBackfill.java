@@ -0,0 +1,124 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.entity.DataBackfill;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.DataBackfillRepository;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rattrapage unique de completed_at (V5 a ajouté la colonne sans la remplir)
+ * - Les projets ayant des tâches ouvertes sont parcourus par lots
+ * - Statuts d'un lot lus en un appel à Project Service, puis un UPDATE des tâches des colonnes "Done"
+ * - Idempotent : seules les tâches sans date de fin sont modifiées
+ * Lancé au démarrage et relancé tant qu'il n'a pas abouti (Project Service indisponible) ;
+ * une fois terminé il est enregistré dans data_backfills
+ */
+@Component
+@Slf4j
+public class TaskCompletionBackfill {
+
+    static final String NAME = "tasks-completed-at";
+
+    private final TaskRepository taskRepository;
+    private final DataBackfillRepository backfillRepository;
+    private final ProjectServiceClient projectServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private volatile boolean completed;
+
+    public TaskCompletionBackfill(TaskRepository taskRepository,
+                                  DataBackfillRepository backfillRepository,
+                                  ProjectServiceClient projectServiceClient,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.completion-backfill.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.backfillRepository = backfillRepository;
+        this.projectServiceClient = projectServiceClient;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.completion-backfill.retry-delay-ms:60000}")
+    public void backfillIfNeeded() {
+        if (completed) {
+            return;
+        }
+        if (backfillRepository.existsById(NAME)) {
+            completed = true;
+            return;
+        }
+        try {
+            int closedTasks = backfill();
+            backfillRepository.save(new DataBackfill(NAME, LocalDateTime.now()));
+            completed = true;
+            log.info("Completion backfill done, {} tasks of \"Done\" columns closed", closedTasks);
+        } catch (ServiceUnavailableException e) {
+            // Les lots déjà traités ne seront pas modifiés une seconde fois
+            log.warn("Completion backfill postponed, Project Service is unavailable: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Completion backfill failed, retrying later", e);
+        }
+    }
+
+    /**
+     * Fermer les tâches ouvertes des colonnes "Done" de tous les projets
+     * Retourne le nombre de tâches fermées
+     */
+    int backfill() {
+        int closedTasks = 0;
+        long afterProjectId = 0L;
+        List<Long> projectIds;
+        do {
+            projectIds = taskRepository.findProjectIdsWithOpenTasks(afterProjectId, batchSize);
+            if (projectIds.isEmpty()) {
+                break;
+            }
+            closedTasks += closeDoneTasks(projectIds);
+            afterProjectId = projectIds.get(projectIds.size() - 1);
+        } while (projectIds.size() == batchSize);
+        return closedTasks;
+    }
+
+    private int closeDoneTasks(List<Long> projectIds) {
+        Map<Long, List<StatusDTO>> statuses = projectServiceClient.getStatusesForProjectsInternal(projectIds);
+        List<Long> doneStatusIds = new ArrayList<>();
+        List<Long> doneProjectIds = new ArrayList<>();
+        statuses.forEach((projectId, projectStatuses) -> projectStatuses.stream()
+                .filter(TaskCompletion::isDone)
+                .forEach(status -> {
+                    doneStatusIds.add(status.getId());
+                    doneProjectIds.add(projectId);
+                }));
+        if (doneStatusIds.isEmpty()) {
+            return 0;
+        }
+
+        Integer closed = transactionTemplate.execute(tx -> {
+            int count = taskRepository.backfillCompletedAt(doneStatusIds);
+            if (count > 0) {
+                doneProjectIds.stream().distinct()
+                        .forEach(projectId -> eventPublisher.publishEvent(new TasksChangedEvent(projectId)));
+            }
+            return count;
+        });
+        return closed != null ? closed : 0;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.entity.CompletionSync;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.CompletionSyncRepository;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Date de fin des tâches après un changement des statuts d'un projet
+ * - Une colonne renommée en "Done" (ou qui ne l'est plus) ne déplace aucune tâche : completed_at est recalculé ici
+ * - La demande est enregistrée (completion_syncs) puis traitée en tâche de fond
+ * - Statuts des projets en attente lus en un appel à Project Service, jamais depuis le cache
+ * - Tâches fermées ou rouvertes par lots, chacun dans sa propre transaction ; idempotent
+ * - Project Service indisponible : la demande reste en attente et est reprise au passage suivant
+ */
+@Service
+@Slf4j
+public class TaskCompletionSync {
+
+    private final CompletionSyncRepository syncRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectServiceClient projectServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskCompletionSync(CompletionSyncRepository syncRepository,
+                              TaskRepository taskRepository,
+                              ProjectServiceClient projectServiceClient,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.completion-sync.batch-size:500}") int batchSize) {
+        this.syncRepository = syncRepository;
+        this.taskRepository = taskRepository;
+        this.projectServiceClient = projectServiceClient;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Demander le recalcul des dates de fin des tâches d'un projet
+     * Idempotent : une notification reçue deux fois ne crée qu'une demande
+     */
+    public void requestSync(Long projectId) {
+        syncRepository.request(projectId, LocalDateTime.now());
+    }
+
+    /**
+     * Traiter les demandes en attente (redémarrage compris)
+     */
+    @Scheduled(fixedDelayString = "${app.completion-sync.poll-delay-ms:2000}")
+    public void processPendingSyncs() {
+        List<CompletionSync> pending = syncRepository.findAllByOrderByRequestedAtAsc(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<StatusDTO>> statuses;
+        try {
+            statuses = projectServiceClient.getStatusesForProjectsInternal(
+                    pending.stream().map(CompletionSync::getProjectId).toList());
+        } catch (ServiceUnavailableException e) {
+            log.info("Statuses unavailable, completion of {} projects synced later: {}", pending.size(), e.getMessage());
+            return;
+        }
+
+        for (CompletionSync sync : pending) {
+            try {
+                // Projet supprimé entre-temps : plus de statuts, ses tâches sont supprimées par ailleurs
+                int changed = sync(sync.getProjectId(), statuses.getOrDefault(sync.getProjectId(), List.of()));
+                syncRepository.deleteIfUnchanged(sync.getProjectId(), sync.getRequestedAt());
+                if (changed > 0) {
+                    log.info("Completion of project {} synced with its statuses, {} tasks updated",
+                            sync.getProjectId(), changed);
+                }
+            } catch (Exception e) {
+                log.error("Completion sync of project {} failed, retrying later", sync.getProjectId(), e);
+            }
+        }
+    }
+
+    /**
+     * Fermer les tâches ouvertes des colonnes "Done", rouvrir les tâches terminées des autres colonnes
+     * Les tâches d'un statut supprimé sont laissées à sa migration (StatusMigrationService)
+     * Retourne le nombre de tâches modifiées
+     */
+    int sync(Long projectId, List<StatusDTO> statuses) {
+        List<Long> doneStatusIds = statuses.stream()
+                .filter(TaskCompletion::isDone)
+                .map(StatusDTO::getId)
+                .toList();
+        List<Long> openStatusIds = statuses.stream()
+                .filter(status -> !TaskCompletion.isDone(status))
+                .map(StatusDTO::getId)
+                .toList();
+
+        LocalDateTime completedAt = LocalDateTime.now();
+        int changed = 0;
+        if (!doneStatusIds.isEmpty()) {
+            changed += inBatches(projectId, () -> taskRepository.closeOpenTasks(doneStatusIds, completedAt, batchSize));
+        }
+        if (!openStatusIds.isEmpty()) {
+            changed += inBatches(projectId, () -> taskRepository.reopenCompletedTasks(openStatusIds, batchSize));
+        }
+        return changed;
+    }
+
+    private int inBatches(Long projectId, IntSupplier batch) {
+        int total = 0;
+        int updated;
+        do {
+            Integer count = transactionTemplate.execute(tx -> {
+                int batchCount = batch.getAsInt();
+                if (batchCount > 0) {
+                    eventPublisher.publishEvent(new TasksChangedEvent(projectId));
+                }
+                return batchCount;
+            });
+            updated = count != null ? count : 0;
+            total += updated;
+        } while (updated == batchSize);
+        return total;
+    }
+}
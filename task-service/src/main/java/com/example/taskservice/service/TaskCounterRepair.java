@@ -0,0 +1,132 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.CounterDrift;
+import com.example.taskservice.dto.CounterRepairReport;
+import com.example.taskservice.entity.TaskCounter;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.repository.CounterKeyCount;
+import com.example.taskservice.repository.TaskCounterRepository;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Recalcul de task_counters à partir des tâches
+ * - Compare chaque compteur au nombre réel de tâches et corrige les écarts
+ * - Les écarts sont journalisés et retournés (ils signalent une écriture qui a contourné TaskCounters)
+ * Exécuté au démarrage (remplit la table la première fois), chaque nuit et à la demande
+ */
+@Component
+@Slf4j
+public class TaskCounterRepair {
+
+    private final TaskRepository taskRepository;
+    private final TaskCounterRepository counterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskCounterRepair(TaskRepository taskRepository,
+                             TaskCounterRepository counterRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.counterRepository = counterRepository;
+        this.eventPublisher = eventPublisher;
+        // Instantané cohérent : si une écriture concurrente touche un compteur corrigé,
+        // PostgreSQL refuse la transaction plutôt que d'écraser la valeur plus récente
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        try {
+            repair();
+        } catch (Exception e) {
+            log.error("Failed to repair task counters on startup", e);
+        }
+    }
+
+    /**
+     * Recompter toutes les tâches et corriger task_counters
+     */
+    @Scheduled(cron = "${app.counters.repair-cron:0 30 3 * * *}")
+    public CounterRepairReport repair() {
+        CounterRepairReport report = transactionTemplate.execute(status -> repairCounters());
+        if (report.getDrifts().isEmpty()) {
+            log.info("Task counters checked, {} counters, no drift", report.getCheckedCounters());
+        } else {
+            log.warn("Task counters repaired, {} of {} counters drifted: {}",
+                    report.getDrifts().size(), report.getCheckedCounters(), report.getDrifts());
+        }
+        return report;
+    }
+
+    private CounterRepairReport repairCounters() {
+        Map<TaskCounterId, Long> actualCounts = new HashMap<>();
+        for (CounterKeyCount count : taskRepository.countTasksByCounterKey()) {
+            actualCounts.put(new TaskCounterId(count.getProjectId(), count.getStatusId(), count.getAssignedTo()),
+                    count.getTaskCount());
+        }
+
+        List<TaskCounter> storedCounters = counterRepository.findAll();
+        List<CounterDrift> drifts = new ArrayList<>();
+        List<TaskCounter> emptyCounters = new ArrayList<>();
+        for (TaskCounter counter : storedCounters) {
+            Long actual = actualCounts.remove(counter.getId());
+            long actualCount = actual != null ? actual : 0L;
+            if (counter.getTaskCount() != actualCount) {
+                drifts.add(drift(counter.getId(), counter.getTaskCount(), actualCount));
+                counter.setTaskCount(actualCount);
+            }
+            // Les compteurs retombés à zéro ne servent plus à rien
+            if (actualCount == 0) {
+                emptyCounters.add(counter);
+            }
+        }
+
+        // Clés sans compteur : tâches jamais comptées
+        List<TaskCounter> missingCounters = new ArrayList<>();
+        actualCounts.forEach((key, actual) -> {
+            drifts.add(drift(key, 0L, actual));
+            missingCounters.add(new TaskCounter(key, actual));
+        });
+
+        counterRepository.deleteAll(emptyCounters);
+        counterRepository.saveAll(missingCounters);
+
+        Set<Long> driftedProjects = new TreeSet<>();
+        drifts.forEach(drift -> driftedProjects.add(drift.getProjectId()));
+        driftedProjects.forEach(projectId -> eventPublisher.publishEvent(new TasksChangedEvent(projectId)));
+
+        return CounterRepairReport.builder()
+                .checkedCounters(storedCounters.size() + missingCounters.size())
+                .drifts(drifts)
+                .build();
+    }
+
+    private CounterDrift drift(TaskCounterId key, long storedCount, long actualCount) {
+        return CounterDrift.builder()
+                .projectId(key.getProjectId())
+                .statusId(key.getStatusId())
+                .assignedTo(key.getAssignedTo())
+                .storedCount(storedCount)
+                .actualCount(actualCount)
+                .build();
+    }
+}
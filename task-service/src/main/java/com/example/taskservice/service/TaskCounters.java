@@ -0,0 +1,77 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.repository.TaskCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mise à jour du modèle de lecture task_counters
+ * Appelé dans la transaction de l'écriture de tâche : compteurs et tâches sont validés ensemble
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCounters {
+
+    private final TaskCounterRepository counterRepository;
+
+    public void taskAdded(Task task) {
+        tasksAdded(List.of(task));
+    }
+
+    /**
+     * Tâches créées : une mise à jour par clé, pas par tâche
+     */
+    public void tasksAdded(Collection<Task> tasks) {
+        Map<TaskCounterId, Long> deltas = new HashMap<>();
+        tasks.forEach(task -> deltas.merge(TaskCounterId.of(task), 1L, Long::sum));
+        apply(deltas);
+    }
+
+    public void taskRemoved(Task task) {
+        apply(Map.of(TaskCounterId.of(task), -1L));
+    }
+
+    /**
+     * Tâche dont la colonne ou l'assigné a peut-être changé
+     */
+    public void taskMoved(TaskCounterId previousKey, Task task) {
+        tasksMoved(Map.of(task.getId(), previousKey), List.of(task));
+    }
+
+    /**
+     * Tâches déplacées, avec leur clé avant modification indexée par ID de tâche
+     * Les tâches restées sous la même clé n'écrivent rien
+     */
+    public void tasksMoved(Map<Long, TaskCounterId> previousKeys, Collection<Task> tasks) {
+        Map<TaskCounterId, Long> deltas = new HashMap<>();
+        for (Task task : tasks) {
+            TaskCounterId previousKey = previousKeys.get(task.getId());
+            TaskCounterId key = TaskCounterId.of(task);
+            if (!key.equals(previousKey)) {
+                deltas.merge(previousKey, -1L, Long::sum);
+                deltas.merge(key, 1L, Long::sum);
+            }
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Compteurs mis à jour dans l'ordre des clés : deux transactions concurrentes
+     * verrouillent les lignes dans le même ordre et ne peuvent pas s'interbloquer
+     */
+    private void apply(Map<TaskCounterId, Long> deltas) {
+        new TreeMap<>(deltas).forEach((key, delta) -> {
+            if (delta != 0) {
+                counterRepository.increment(key.getProjectId(), key.getStatusId(), key.getAssignedTo(), delta);
+            }
+        });
+    }
+}
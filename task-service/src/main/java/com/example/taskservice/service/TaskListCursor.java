@@ -0,0 +1,83 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.dto.TaskListSort;
+import com.example.taskservice.exception.BadRequestException;
+import com.example.taskservice.repository.TaskCard;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Curseur opaque d'une liste de tâches : (clé de tri, id) de la dernière tâche renvoyée
+ * Le tri fait partie du curseur pour refuser un curseur réutilisé avec un autre tri
+ */
+public final class TaskListCursor {
+
+    private final TaskListSort sort;
+    private final String key;
+    private final long id;
+
+    private TaskListCursor(TaskListSort sort, String key, long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static TaskListCursor after(TaskCard card, TaskListSort sort) {
+        String key = switch (sort) {
+            case CREATED_AT -> card.createdAt().toString();
+            case RANK -> String.valueOf(card.rank());
+            case DUE_DATE -> card.dueDate().toString();
+        };
+        return new TaskListCursor(sort, key, card.id());
+    }
+
+    /**
+     * Décoder un curseur ; null pour la première page
+     */
+    public static TaskListCursor decode(String cursor, TaskListSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            TaskListCursor decoded = new TaskListCursor(TaskListSort.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+            if (decoded.sort != sort) {
+                throw new IllegalArgumentException("Cursor sort mismatch");
+            }
+            // Valider la clé dès le décodage
+            switch (sort) {
+                case CREATED_AT -> decoded.getCreatedAt();
+                case RANK -> decoded.getRank();
+                case DUE_DATE -> decoded.getDueDate();
+            }
+            return decoded;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sort + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return LocalDateTime.parse(key);
+    }
+
+    public long getRank() {
+        return Long.parseLong(key);
+    }
+
+    public LocalDate getDueDate() {
+        return LocalDate.parse(key);
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.exception.BadRequestException;
+import com.example.taskservice.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Ordre des cartes dans une colonne par clés espacées (rank)
+ * - Ajouter en fin de colonne : rank du dernier + GAP
+ * - Déplacer entre deux voisines : milieu des deux ranks, une seule ligne écrite
+ * - Quand l'écart devient trop petit, la colonne est ré-espacée en tâche de fond
+ * - Un verrou par colonne (pg_advisory_xact_lock) sérialise le calcul des ranks et le ré-espacement :
+ *   un ajout ou un déplacement ne peut pas écrire un rank calculé sur des ranks déjà ré-espacés,
+ *   ni le même rank qu'un autre ajout
+ */
+@Component
+@Slf4j
+public class TaskRanking {
+
+    public static final long GAP = 1L << 16;
+
+    /**
+     * En dessous de cet écart entre voisines, la colonne est planifiée pour ré-espacement
+     */
+    private static final long MIN_GAP = 1L << 4;
+
+    private static final long NO_EXCLUDED_TASK = -1L;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> columnsToRebalance = ConcurrentHashMap.newKeySet();
+
+    public TaskRanking(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rank pour une carte ajoutée en fin de colonne
+     * Le dernier rank est lu sous le verrou de la colonne : à appeler dans la transaction qui écrit la carte
+     */
+    public long rankForAppend(Long statusId) {
+        taskRepository.lockColumnRanks(statusId);
+        return lastRankPlusGap(statusId);
+    }
+
+    /**
+     * Rank pour une carte placée entre deux voisines identifiées par leur ID
+     * Un voisin null signifie le début (previous) ou la fin (next) de la colonne
+     */
+    public long rankBetweenTasks(Long statusId, Long taskId, Long previousTaskId, Long nextTaskId) {
+        return place(statusId, taskId, () -> {
+            Long previousRank = previousTaskId != null ? rankOfNeighbour(previousTaskId, statusId) : null;
+            Long nextRank = nextTaskId != null ? rankOfNeighbour(nextTaskId, statusId) : null;
+
+            if (previousRank != null && nextRank != null && previousRank >= nextRank) {
+                throw new BadRequestException("Previous task must be placed before next task");
+            }
+            return new Neighbours(previousRank, nextRank);
+        });
+    }
+
+    /**
+     * Rank pour une carte placée à un index (0 = haut de la colonne)
+     */
+    public long rankAtIndex(Long statusId, Long taskId, int index) {
+        return place(statusId, taskId, () -> neighboursAt(statusId, taskId, index));
+    }
+
+    /**
+     * Donner un rank aux cartes déplacées d'une colonne déjà dans son ordre final
+     * - Les cartes déplacées consécutives se partagent l'écart entre leurs voisines fixes
+     * - S'il n'y a pas assez de place, toute la colonne est ré-espacée en mémoire
+     * Les ranks sont posés sur les entités, écrites au commit par lots JDBC
+     */
+    public void assignRanks(Long statusId, List<Task> column, Set<Long> movedTaskIds) {
+        int i = 0;
+        while (i < column.size()) {
+            if (!needsRank(column.get(i), movedTaskIds)) {
+                i++;
+                continue;
+            }
+
+            int runEnd = i;
+            while (runEnd < column.size() && needsRank(column.get(runEnd), movedTaskIds)) {
+                runEnd++;
+            }
+
+            long low = i > 0 ? column.get(i - 1).getRank() : 0L;
+            Long high = runEnd < column.size() ? column.get(runEnd).getRank() : null;
+            int count = runEnd - i;
+            long step = high == null ? GAP : (high - low) / (count + 1);
+
+            if (step < 1) {
+                log.info("No rank gap left in status {}, respacing column", statusId);
+                for (int j = 0; j < column.size(); j++) {
+                    column.get(j).setRank((j + 1) * GAP);
+                }
+                return;
+            }
+            if (step < MIN_GAP) {
+                requestRebalance(statusId);
+            }
+            for (int j = 0; j < count; j++) {
+                column.get(i + j).setRank(low + (j + 1) * step);
+            }
+            i = runEnd;
+        }
+    }
+
+    /**
+     * Verrouiller les ranks de colonnes jusqu'à la fin de la transaction de l'appelant,
+     * dans l'ordre des IDs pour éviter les interblocages
+     * À appeler avant de lire les ranks des colonnes qui seront réécrits
+     */
+    public void lockColumns(Collection<Long> statusIds) {
+        statusIds.stream().sorted().forEach(taskRepository::lockColumnRanks);
+    }
+
+    /**
+     * Demander le ré-espacement d'une colonne en tâche de fond
+     */
+    public void requestRebalance(Long statusId) {
+        columnsToRebalance.add(statusId);
+    }
+
+    /**
+     * Ré-espacer les colonnes dont les écarts sont épuisés
+     * Chaque colonne est traitée dans sa propre transaction, sous le verrou de la colonne
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.rebalance-delay-ms:10000}")
+    public void rebalancePendingColumns() {
+        for (Long statusId : List.copyOf(columnsToRebalance)) {
+            columnsToRebalance.remove(statusId);
+            try {
+                Integer updated = transactionTemplate.execute(tx -> {
+                    taskRepository.lockColumnRanks(statusId);
+                    return taskRepository.rebalanceColumn(statusId, NO_EXCLUDED_TASK, GAP);
+                });
+                log.info("Rebalanced {} task ranks in status {}", updated, statusId);
+            } catch (Exception e) {
+                log.error("Failed to rebalance ranks of status {}", statusId, e);
+                columnsToRebalance.add(statusId);
+            }
+        }
+    }
+
+    // ========== MÉTHODES PRIVÉES ==========
+
+    /**
+     * Calculer le rank entre les voisines ; si l'écart est épuisé,
+     * ré-espacer la colonne (sans la carte déplacée) puis recalculer
+     * Les voisines sont lues sous le verrou de la colonne, gardé jusqu'au commit du déplacement
+     */
+    private long place(Long statusId, Long taskId, Supplier<Neighbours> lookup) {
+        taskRepository.lockColumnRanks(statusId);
+        Long rank = midpoint(statusId, lookup.get());
+        if (rank != null) {
+            return rank;
+        }
+
+        log.info("No rank gap left in status {}, rebalancing column", statusId);
+        taskRepository.rebalanceColumn(statusId, taskId, GAP);
+        rank = midpoint(statusId, lookup.get());
+        if (rank == null) {
+            throw new IllegalStateException("No rank available in status " + statusId + " after rebalancing");
+        }
+        return rank;
+    }
+
+    /**
+     * Rank après le dernier de la colonne ; le verrou de la colonne est déjà tenu
+     */
+    private long lastRankPlusGap(Long statusId) {
+        Long maxRank = taskRepository.findMaxRankByStatusId(statusId);
+        return maxRank == null ? GAP : maxRank + GAP;
+    }
+
+    /**
+     * Milieu entre deux ranks, ou null si aucun entier n'est disponible entre les deux
+     */
+    private Long midpoint(Long statusId, Neighbours neighbours) {
+        if (neighbours.previousRank() == null && neighbours.nextRank() == null) {
+            return lastRankPlusGap(statusId);
+        }
+        if (neighbours.nextRank() == null) {
+            return neighbours.previousRank() + GAP;
+        }
+
+        long low = neighbours.previousRank() != null ? neighbours.previousRank() : 0L;
+        long gap = neighbours.nextRank() - low;
+        if (gap < 2) {
+            return null;
+        }
+        if (gap < MIN_GAP) {
+            requestRebalance(statusId);
+        }
+        return low + gap / 2;
+    }
+
+    private boolean needsRank(Task task, Set<Long> movedTaskIds) {
+        return task.getRank() == null || movedTaskIds.contains(task.getId());
+    }
+
+    private Long rankOfNeighbour(Long neighbourId, Long statusId) {
+        return taskRepository.findRankInColumn(neighbourId, statusId)
+                .orElseThrow(() -> new BadRequestException("Task " + neighbourId + " is not in the target status"));
+    }
+
+    /**
+     * Ranks des cartes juste avant et juste après l'index visé (null si absentes)
+     */
+    private Neighbours neighboursAt(Long statusId, Long taskId, int index) {
+        if (index <= 0) {
+            List<Long> first = taskRepository.findRanksAt(statusId, taskId, 0, 1);
+            return new Neighbours(null, first.isEmpty() ? null : first.get(0));
+        }
+
+        List<Long> around = taskRepository.findRanksAt(statusId, taskId, index - 1, 2);
+        if (around.isEmpty()) {
+            // Index au-delà de la fin : ajouter après la dernière carte
+            return new Neighbours(taskRepository.findMaxRankByStatusId(statusId), null);
+        }
+        return new Neighbours(around.get(0), around.size() > 1 ? around.get(1) : null);
+    }
+
+    private record Neighbours(Long previousRank, Long nextRank) {
+    }
+}
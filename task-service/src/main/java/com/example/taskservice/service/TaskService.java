@@ -1,22 +1,52 @@
 package com.example.taskservice.service;
 
+import com.example.taskservice.cache.ProjectAccessCache;
+import com.example.taskservice.cache.ProjectStatusCache;
+import com.example.taskservice.cache.TaskStatsCache;
+import com.example.taskservice.cache.UserDirectory;
 import com.example.taskservice.client.ProjectServiceClient;
 import com.example.taskservice.entity.Priority;
 import com.example.taskservice.entity.Task;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.event.TasksChangedEvent;
 import com.example.taskservice.exception.BadRequestException;
 import com.example.taskservice.exception.ResourceNotFoundException;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.exception.TaskVersionConflictException;
+import com.example.taskservice.repository.TaskCard;
 import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.repository.TaskSearchHit;
+import com.example.taskservice.repository.TaskSpecifications;
 import com.example.taskservice.dto.*;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,29 +54,54 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TaskService {
 
+    private static final int MAX_CARDS_PER_COLUMN = 200;
+    private static final int MAX_TASKS_PER_PAGE = 200;
+    private static final int MAX_MOVE_ATTEMPTS = 3;
+
     private final TaskRepository taskRepository;
     private final ProjectServiceClient projectServiceClient;
+    private final ProjectStatusCache statusCache;
+    private final ProjectAccessCache accessCache;
+    private final TaskRanking taskRanking;
+    private final TaskStatsCache statsCache;
+    private final UserDirectory userDirectory;
+    private final TaskCounters taskCounters;
+    private final StatusMigrationService statusMigrationService;
+    private final ProjectVersions projectVersions;
+    private final RemoteLookups remoteLookups;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Créer une nouvelle tâche
-     * - Valide le statut via Project Service
-     * - Calcule la position automatiquement
+     * - Accès et statut lus dans le contexte du projet (un seul appel à Project Service sur cache froid)
+     * - Profil de l'assigné lu en parallèle (UserDirectory peut appeler Auth Service)
+     * - Calcule le rank automatiquement (fin de colonne, sous le verrou de la colonne)
      */
-    @Transactional
     public TaskResponse createTask(TaskRequest request, Long userId, String role) {
         log.info("Creating task for project {} by user {}", request.getProjectId(), userId);
 
-        // Valider l'accès au projet
-        verifyProjectAccess(request.getProjectId(), userId, role);
-
-        // Déterminer le statut
         StatusDTO status;
-        if (request.getStatusId() != null) {
-            // Valider que le statut appartient au projet
-            status = validateStatus(request.getProjectId(), request.getStatusId(), userId, role);
-        } else {
-            // Utiliser le premier statut du projet (par défaut "To Do")
-            status = getFirstProjectStatus(request.getProjectId(), userId, role);
+        Map<Long, AssignedUserDTO> assignees;
+        try (RemoteLookups.Scope lookups = remoteLookups.open()) {
+            // Valider l'accès au projet, puis déterminer le statut : celui demandé s'il appartient
+            // au projet, sinon le premier statut du projet (par défaut "To Do")
+            // Le chargement de l'accès remplit aussi le cache des statuts
+            Supplier<StatusDTO> statusLookup = lookups.fork(() -> {
+                verifyProjectAccess(request.getProjectId(), userId, role);
+                return request.getStatusId() != null
+                        ? validateStatus(request.getProjectId(), request.getStatusId(), userId, role)
+                        : getFirstProjectStatus(request.getProjectId(), userId, role);
+            });
+
+            // Indépendant du projet : l'assigné est résolu pendant que Project Service répond
+            Supplier<Map<Long, AssignedUserDTO>> assigneeLookup = request.getAssignedTo() != null
+                    ? lookups.fork(() -> userDirectory.getUsers(Set.of(request.getAssignedTo())))
+                    : Map::of;
+
+            lookups.join();
+            status = statusLookup.get();
+            assignees = assigneeLookup.get();
         }
 
         // Créer la tâche
@@ -54,90 +109,242 @@ public class TaskService {
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setStatusId(status.getId());
+        TaskCompletion.apply(task, status);
         task.setPriority(request.getPriority() != null ? request.getPriority() : Priority.MEDIUM);
         task.setDueDate(request.getDueDate());
         task.setProjectId(request.getProjectId());
         task.setAssignedTo(request.getAssignedTo());
 
-        // Calculer la position (à la fin de la colonne)
-        Integer maxPosition = taskRepository.findMaxPositionByStatusId(status.getId());
-        task.setPosition(maxPosition + 1);
+        TaskResponse created = transactionTemplate.execute(tx -> {
+            // Calculer le rank (à la fin de la colonne) ; rankForAppend verrouille la colonne
+            // jusqu'au commit, deux créations simultanées ne lisent donc pas le même dernier rank
+            task.setRank(taskRanking.rankForAppend(status.getId()));
 
-        Task savedTask = taskRepository.save(task);
-        log.info("Task created with ID: {}", savedTask.getId());
+            Task savedTask = taskRepository.save(task);
+            taskCounters.taskAdded(savedTask);
+            log.info("Task created with ID: {}", savedTask.getId());
+            eventPublisher.publishEvent(new TasksChangedEvent(savedTask.getProjectId()));
+            return mapToTaskResponse(savedTask, status);
+        });
 
-        return mapToTaskResponse(savedTask, status);
+        if (created.getAssignedUser() != null) {
+            created.setAssignee(assignees.get(created.getAssignedUser()));
+        }
+        return created;
     }
 
     /**
-     * Récupérer toutes les tâches avec filtres
+     * Créer plusieurs tâches d'un coup (import de backlog)
+     * - Accès et statuts du projet validés une seule fois
+     * - Ranks calculés en mémoire par colonne (une lecture du max par colonne)
+     * - INSERT par lots JDBC grâce aux IDs tirés de la séquence par blocs
+     * - Assignés résolus après le commit
+     */
+    public List<TaskResponse> createTasks(BulkTaskRequest request, Long userId, String role) {
+        Long projectId = request.getProjectId();
+        log.info("Creating {} tasks for project {} by user {}", request.getTasks().size(), projectId, userId);
+
+        verifyProjectAccess(projectId, userId, role);
+
+        List<StatusDTO> statuses = statusCache.getStatuses(projectId, userId, role);
+        if (statuses.isEmpty()) {
+            throw new BadRequestException("No statuses found for this project");
+        }
+        Map<Long, StatusDTO> statusesById = statuses.stream()
+                .collect(Collectors.toMap(StatusDTO::getId, s -> s));
+
+        List<TaskResponse> created = transactionTemplate.execute(tx ->
+                insertTasks(projectId, request.getTasks(), statuses, statusesById));
+        addAssignees(created);
+        return created;
+    }
+
+    /**
+     * Récupérer les tâches avec filtres combinés (une seule requête SQL)
+     * - projectId, statuts, priorités, assigné, échéance, recherche texte : tous combinables
+     * - Avec une recherche et sans tri explicite : triées par pertinence, avec extraits surlignés
+     * - Cartes sans description : elle n'est chargée que par getTaskById
      */
     @Transactional(readOnly = true)
-    public Page<TaskResponse> getAllTasks(
-            Long projectId,
-            Long statusId,
-            Priority priority,
-            Long assignedTo,
-            String search,
+    public Page<TaskResponse> getAllTasks(TaskFilter filter, Long userId, String role, Pageable pageable) {
+        verifyListingAccess(filter, userId, role);
+
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        if (filter.hasSearch() && pageable.getSort().isUnsorted()) {
+            spec = spec.and(TaskSpecifications.orderedByRelevance(filter.getSearch().trim()));
+        }
+
+        Page<TaskCard> tasks = taskRepository.findCards(spec, pageable);
+
+        // Un projet : statuts depuis le cache ; sinon enrichir par projet distinct (un seul appel groupé)
+        Page<TaskResponse> page = filter.getProjectId() != null
+                ? enrichTasksWithStatuses(tasks, filter.getProjectId(), userId, role)
+                : enrichCrossProjectTasks(tasks, userId, role);
+
+        if (filter.hasSearch()) {
+            addSearchHighlights(page.getContent(), filter.getSearch().trim());
+        }
+        addAssignees(page.getContent());
+        return page;
+    }
+
+    /**
+     * Lister les tâches par curseur (keyset) : mêmes filtres que getAllTasks, sans COUNT ni OFFSET
+     * - Seek sur (clé de tri, id) à partir du curseur de la page précédente
+     * - estimatedTotal (estimation du planificateur) seulement si demandé
+     */
+    @Transactional(readOnly = true)
+    public TaskCursorPageResponse getTasksByCursor(
+            TaskFilter filter,
+            TaskListSort sort,
+            String cursor,
+            int limit,
+            boolean estimateCount,
             Long userId,
-            String role,
-            Pageable pageable) {
+            String role) {
 
-        Page<Task> tasks;
+        return cursorPage(filter, TaskSpecifications.matching(filter), sort, cursor, limit, estimateCount, userId, role);
+    }
 
-        if (projectId != null) {
-            // Valider l'accès au projet
-            verifyProjectAccess(projectId, userId, role);
+    /**
+     * Tâches ouvertes à échéance dans [after, before), échéance la plus proche d'abord (curseur)
+     * - before=aujourd'hui : en retard ; after=aujourd'hui&before=dans 7 jours : à échéance proche
+     * - Servi par les index partiels des tâches ouvertes (projet, assigné ou toutes)
+     * - Mêmes règles d'accès que les listes : projectId, ou assignedTo, ou ADMIN
+     */
+    @Transactional(readOnly = true)
+    public TaskCursorPageResponse getDueTasks(Long projectId, Long assignedTo, LocalDate after, LocalDate before,
+                                              String cursor, int limit, Long userId, String role) {
+        if (after != null && before != null && !after.isBefore(before)) {
+            throw new BadRequestException("after must be earlier than before");
+        }
 
-            // Appliquer les filtres
-            if (search != null && !search.isEmpty()) {
-                tasks = taskRepository.searchTasksByProject(projectId, search, pageable);
-            } else if (statusId != null) {
-                tasks = taskRepository.findByProjectIdAndStatusId(projectId, statusId, pageable);
-            } else if (priority != null) {
-                tasks = taskRepository.findByProjectIdAndPriority(projectId, priority, pageable);
-            } else if (assignedTo != null) {
-                tasks = taskRepository.findByProjectIdAndAssignedTo(projectId, assignedTo, pageable);
-            } else {
-                tasks = taskRepository.findByProjectId(projectId, pageable);
-            }
+        TaskFilter filter = TaskFilter.builder()
+                .projectId(projectId)
+                .assignedTo(assignedTo)
+                .dueFrom(after)
+                .build();
+        Specification<Task> spec = TaskSpecifications.matching(filter).and(TaskSpecifications.open());
+        if (before != null) {
+            spec = spec.and(TaskSpecifications.dueBefore(before));
+        }
+        return cursorPage(filter, spec, TaskListSort.DUE_DATE, cursor, limit, false, userId, role);
+    }
 
-            // Enrichir avec les détails des statuts
-            return enrichTasksWithStatuses(tasks, projectId, userId, role);
+    /**
+     * Page par curseur des tâches répondant à spec, enrichie des statuts
+     */
+    private TaskCursorPageResponse cursorPage(TaskFilter filter, Specification<Task> spec, TaskListSort sort,
+                                              String cursor, int limit, boolean estimateCount,
+                                              Long userId, String role) {
+        verifyListingAccess(filter, userId, role);
 
-        } else if (assignedTo != null) {
-            tasks = taskRepository.findByAssignedTo(assignedTo, pageable);
-        } else if (statusId != null) {
-            tasks = taskRepository.findByStatusId(statusId, pageable);
-        } else if (priority != null) {
-            tasks = taskRepository.findByPriority(priority, pageable);
-        } else {
-            // Admin seulement
-            if (!"ADMIN".equals(role)) {
-                throw new BadRequestException("Must specify projectId or assignedTo");
-            }
-            tasks = taskRepository.findAll(pageable);
+        int pageSize = clampListLimit(limit);
+        TaskListCursor after = TaskListCursor.decode(cursor, sort);
+
+        if (sort == TaskListSort.DUE_DATE) {
+            spec = spec.and(TaskSpecifications.hasDueDate());
+        }
+        if (after != null) {
+            spec = spec.and(switch (sort) {
+                case CREATED_AT -> TaskSpecifications.createdBefore(after.getCreatedAt(), after.getId());
+                case RANK -> TaskSpecifications.rankedAfter(after.getRank(), after.getId());
+                case DUE_DATE -> TaskSpecifications.dueAfter(after.getDueDate(), after.getId());
+            });
         }
 
-        // Pour les requêtes non-project, enrichir individuellement
-        return tasks.map(task -> {
-            try {
-                StatusDTO status = projectServiceClient.getStatusById(
-                        task.getProjectId(),
-                        task.getStatusId(),
-                        userId,
-                        role
-                );
-                return mapToTaskResponse(task, status);
-            } catch (Exception e) {
-                log.error("Failed to fetch status for task {}", task.getId(), e);
-                return mapToTaskResponseWithoutStatus(task);
-            }
-        });
+        Sort order = switch (sort) {
+            case CREATED_AT -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+            case RANK -> Sort.by(Sort.Order.asc("rank"), Sort.Order.asc("id"));
+            case DUE_DATE -> Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"));
+        };
+
+        // Une tâche de plus pour savoir s'il reste une page
+        List<TaskCard> tasks = taskRepository.findCards(spec, order, pageSize + 1);
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskCard> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        Page<TaskCard> asPage = new PageImpl<>(page);
+        List<TaskResponse> content = filter.getProjectId() != null
+                ? enrichTasksWithStatuses(asPage, filter.getProjectId(), userId, role).getContent()
+                : enrichCrossProjectTasks(asPage, userId, role).getContent();
+        if (filter.hasSearch()) {
+            addSearchHighlights(content, filter.getSearch().trim());
+        }
+        addAssignees(content);
+
+        return TaskCursorPageResponse.builder()
+                .content(content)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? TaskListCursor.after(page.get(page.size() - 1), sort).encode() : null)
+                .estimatedTotal(estimateCount ? taskRepository.estimateCount(filter) : null)
+                .build();
+    }
+
+    /**
+     * ETag des listes et du tableau d'un projet, à comparer avant toute requête de liste
+     * - Accès vérifié via le cache local ; version lue en une ligne
+     * - Lu avant les données : une écriture concurrente donne au pire un ETag périmé, jamais un 304 à tort
+     */
+    @Transactional(readOnly = true)
+    public String getProjectETag(Long projectId, Long userId, String role) {
+        verifyProjectAccess(projectId, userId, role);
+        return projectVersions.etag(projectId);
+    }
+
+    /**
+     * Récupérer le tableau Kanban d'un projet en une seule requête
+     * - Toutes les colonnes (statuts) du projet, dans l'ordre
+     * - Au plus `limit` cartes par colonne, triées par rank
+     * - Un curseur par colonne pour charger la suite
+     */
+    @Transactional(readOnly = true)
+    public BoardResponse getBoard(Long projectId, int limit, Long userId, String role) {
+        verifyProjectAccess(projectId, userId, role);
+
+        int cardsPerColumn = clampColumnLimit(limit);
+        List<StatusDTO> statuses = statusCache.getStatuses(projectId, userId, role);
+
+        // Une seule requête triée par (status_id, rank), regroupée en une passe
+        // On demande une carte de plus par colonne pour savoir s'il en reste
+        Map<Long, List<TaskCard>> tasksByStatus = taskRepository.findBoardCards(projectId, cardsPerColumn + 1)
+                .stream()
+                .collect(Collectors.groupingBy(TaskCard::statusId));
+
+        List<BoardColumnResponse> columns = statuses.stream()
+                .map(status -> buildColumn(status, tasksByStatus.getOrDefault(status.getId(), List.of()), cardsPerColumn))
+                .collect(Collectors.toList());
+        // Assignés de tout le tableau en une recherche
+        addAssignees(columns.stream().flatMap(column -> column.getTasks().stream()).toList());
+
+        return BoardResponse.builder()
+                .projectId(projectId)
+                .columns(columns)
+                .build();
     }
 
     /**
-     * Récupérer une tâche par ID
+     * Charger la suite d'une colonne du tableau à partir d'un curseur
+     */
+    @Transactional(readOnly = true)
+    public BoardColumnResponse getBoardColumn(Long projectId, Long statusId, String cursor, int limit,
+                                              Long userId, String role) {
+        verifyProjectAccess(projectId, userId, role);
+
+        StatusDTO status = validateStatus(projectId, statusId, userId, role);
+        int cardsPerColumn = clampColumnLimit(limit);
+        RankCursor after = RankCursor.decode(cursor);
+
+        List<TaskCard> tasks = taskRepository.findColumnCardsAfter(
+                projectId, statusId, after.getRank(), after.getId(), PageRequest.of(0, cardsPerColumn + 1));
+
+        BoardColumnResponse column = buildColumn(status, tasks, cardsPerColumn);
+        addAssignees(column.getTasks());
+        return column;
+    }
+
+    /**
+     * Récupérer une tâche par ID (seule lecture qui charge la description)
      */
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long taskId, Long userId, String role) {
@@ -150,20 +357,270 @@ public class TaskService {
         // Récupérer les détails du statut
         StatusDTO status = fetchStatusDetails(task.getProjectId(), task.getStatusId(), userId, role);
 
-        return mapToTaskResponse(task, status);
+        return withAssignee(mapToTaskResponse(task, status));
     }
 
     /**
      * Mettre à jour une tâche
+     * - expectedVersion (If-Match) différente de la version courante : 412 avec l'état courant
+     * - Écriture concurrente validée entre-temps : 409 avec l'état courant, rien n'est écrasé
+     * - Assigné résolu après le commit : aucun appel à Auth Service tant que la ligne est verrouillée
+     */
+    public TaskResponse updateTask(Long taskId, TaskRequest request, Long expectedVersion, Long userId, String role) {
+        try {
+            return withAssignee(transactionTemplate.execute(tx ->
+                    applyUpdate(taskId, request, expectedVersion, userId, role)));
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Concurrent update of task {} rejected", taskId);
+            throw TaskVersionConflictException.conflict(getTaskById(taskId, userId, role));
+        }
+    }
+
+    /**
+     * Déplacer une tâche (drag & drop)
+     * - Avec expectedVersion (If-Match) : 412 / 409 comme updateTask
+     * - Sans : si une écriture concurrente l'emporte et que la carte est déjà dans la colonne visée,
+     *   il ne reste qu'un changement de place, rejoué sur l'état frais (sans verrou)
+     */
+    public TaskResponse updateTaskStatus(Long taskId, UpdateTaskStatusRequest request, Long expectedVersion,
+                                         Long userId, String role) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return withAssignee(transactionTemplate.execute(tx ->
+                        applyMove(taskId, request, expectedVersion, userId, role)));
+            } catch (OptimisticLockingFailureException e) {
+                TaskResponse current = getTaskById(taskId, userId, role);
+                boolean positionOnly = request.getStatusId().equals(current.getStatus().getId());
+                if (expectedVersion != null || !positionOnly || attempt >= MAX_MOVE_ATTEMPTS) {
+                    log.info("Concurrent move of task {} rejected", taskId);
+                    throw TaskVersionConflictException.conflict(current);
+                }
+                log.debug("Concurrent update of task {}, replaying position change (attempt {})", taskId, attempt + 1);
+            }
+        }
+    }
+
+    /**
+     * Réordonnancement groupé (drag qui décale plusieurs cartes)
+     * - Accès et statuts validés une seule fois pour tout le lot
+     * - Tous les déplacements appliqués dans une transaction, écrits par lots JDBC
+     * - Retourne le nouvel ordre des colonnes touchées
+     */
+    @Transactional
+    public List<ColumnOrderResponse> reorderTasks(ReorderTasksRequest request, Long userId, String role) {
+        Long projectId = request.getProjectId();
+        verifyProjectAccess(projectId, userId, role);
+
+        List<StatusDTO> statuses = statusCache.getStatuses(projectId, userId, role);
+        Map<Long, StatusDTO> statusesById = statuses.stream()
+                .collect(Collectors.toMap(StatusDTO::getId, s -> s));
+
+        Set<Long> movedTaskIds = new HashSet<>();
+        for (TaskMoveRequest move : request.getMoves()) {
+            if (!statusesById.containsKey(move.getStatusId())) {
+                throw new ResourceNotFoundException("Status not found");
+            }
+            if (!movedTaskIds.add(move.getTaskId())) {
+                throw new BadRequestException("Task " + move.getTaskId() + " is moved more than once");
+            }
+        }
+
+        // Colonnes touchées : colonnes d'origine et colonnes cibles
+        List<Task> movedTasks = taskRepository.findAllById(movedTaskIds);
+        if (movedTasks.size() != movedTaskIds.size()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        Set<Long> affectedStatusIds = new HashSet<>();
+        Map<Long, TaskCounterId> previousKeys = new HashMap<>();
+        for (Task task : movedTasks) {
+            if (!task.getProjectId().equals(projectId)) {
+                throw new BadRequestException("Task " + task.getId() + " does not belong to this project");
+            }
+            affectedStatusIds.add(task.getStatusId());
+            previousKeys.put(task.getId(), TaskCounterId.of(task));
+        }
+        request.getMoves().forEach(move -> affectedStatusIds.add(move.getStatusId()));
+
+        // Ordre actuel des colonnes touchées, sans les cartes déplacées (lu sous le verrou des colonnes)
+        taskRanking.lockColumns(affectedStatusIds);
+        Map<Long, List<Task>> columns = new HashMap<>();
+        Map<Long, Task> tasksById = new HashMap<>();
+        affectedStatusIds.forEach(statusId -> columns.put(statusId, new ArrayList<>()));
+        for (Task task : taskRepository.findByProjectIdAndStatusIdInOrderByRankAscIdAsc(projectId, affectedStatusIds)) {
+            tasksById.put(task.getId(), task);
+            if (!movedTaskIds.contains(task.getId())) {
+                columns.get(task.getStatusId()).add(task);
+            }
+        }
+        movedTasks.forEach(task -> tasksById.putIfAbsent(task.getId(), task));
+
+        // Insérer par index croissant : chaque index désigne la place finale dans la colonne
+        request.getMoves().stream()
+                .sorted(Comparator.comparing(TaskMoveRequest::getPosition))
+                .forEach(move -> {
+                    Task task = tasksById.get(move.getTaskId());
+                    List<Task> column = columns.get(move.getStatusId());
+                    task.setStatusId(move.getStatusId());
+                    TaskCompletion.apply(task, statusesById.get(move.getStatusId()));
+                    column.add(Math.min(move.getPosition(), column.size()), task);
+                });
+
+        columns.forEach((statusId, column) -> taskRanking.assignRanks(statusId, column, movedTaskIds));
+        taskCounters.tasksMoved(previousKeys, movedTasks);
+        log.info("Reordered {} tasks in project {}", movedTaskIds.size(), projectId);
+        eventPublisher.publishEvent(new TasksChangedEvent(projectId));
+
+        return statuses.stream()
+                .filter(status -> columns.containsKey(status.getId()))
+                .map(status -> ColumnOrderResponse.builder()
+                        .statusId(status.getId())
+                        .taskIds(columns.get(status.getId()).stream().map(Task::getId).toList())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Supprimer une tâche
      */
     @Transactional
-    public TaskResponse updateTask(Long taskId, TaskRequest request, Long userId, String role) {
+    public void deleteTask(Long taskId, Long userId, String role) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
         // Valider l'accès
         verifyProjectAccess(task.getProjectId(), userId, role);
 
+        taskRepository.delete(task);
+        taskCounters.taskRemoved(task);
+        log.info("Task {} deleted", taskId);
+        eventPublisher.publishEvent(new TasksChangedEvent(task.getProjectId()));
+    }
+
+    /**
+     * Obtenir les statistiques des tâches par projet
+     * - Nombre de tâches de chaque colonne lu dans task_counters (en cache quelques secondes)
+     * - Champs todo / inProgress / done conservés pour l'ancien format du Project Service
+     * Sans identité (appel interne), les noms des colonnes ne viennent que du cache des statuts :
+     * s'ils n'y sont pas, todo / inProgress / done sont null (inconnus) et non 0
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getTaskStatsByProject(Long projectId, Long userId, String role) {
+        log.info("Fetching task stats for project {}", projectId);
+
+        Optional<List<StatusDTO>> knownStatuses;
+        if (userId != null) {
+            verifyProjectAccess(projectId, userId, role);
+            knownStatuses = Optional.of(statusCache.getStatuses(projectId, userId, role));
+        } else {
+            knownStatuses = statusCache.peekStatuses(projectId);
+        }
+        List<StatusDTO> statuses = knownStatuses.orElse(List.of());
+
+        Map<Long, Long> counts = statsCache.getStatusCounts(projectId);
+
+        // Toutes les colonnes du projet dans l'ordre, puis les statuts inconnus du cache
+        Map<Long, Integer> tasksByStatus = new LinkedHashMap<>();
+        statuses.forEach(status -> tasksByStatus.put(status.getId(), counts.getOrDefault(status.getId(), 0L).intValue()));
+        counts.forEach((statusId, count) -> tasksByStatus.putIfAbsent(statusId, count.intValue()));
+
+        // Mapper par nom pour compatibilité avec l'ancien système
+        int todoTasks = 0;
+        int inProgressTasks = 0;
+        int doneTasks = 0;
+        for (StatusDTO status : statuses) {
+            int count = tasksByStatus.get(status.getId());
+            if ("To Do".equalsIgnoreCase(status.getName()) || "TODO".equalsIgnoreCase(status.getName())) {
+                todoTasks = count;
+            } else if ("In Progress".equalsIgnoreCase(status.getName()) || "IN_PROGRESS".equalsIgnoreCase(status.getName())) {
+                inProgressTasks = count;
+            } else if (TaskCompletion.isDone(status)) {
+                doneTasks = count;
+            }
+        }
+
+        boolean namesKnown = knownStatuses.isPresent();
+        return TaskStatsResponse.builder()
+                .projectId(projectId)
+                .totalTasks(counts.values().stream().mapToInt(Long::intValue).sum())
+                .todoTasks(namesKnown ? todoTasks : null)
+                .inProgressTasks(namesKnown ? inProgressTasks : null)
+                .doneTasks(namesKnown ? doneTasks : null)
+                .tasksByStatus(tasksByStatus)
+                .build();
+    }
+
+    /**
+     * Avancement de la migration des tâches d'un statut supprimé
+     */
+    public StatusMigrationResponse getStatusMigration(Long statusId, Long userId, String role) {
+        StatusMigrationResponse migration = statusMigrationService.getMigration(statusId);
+        verifyProjectAccess(migration.getProjectId(), userId, role);
+        return migration;
+    }
+
+    // ========== MÉTHODES PRIVÉES ==========
+
+    /**
+     * Corps de createTasks, dans la transaction ouverte par l'appelant
+     */
+    private List<TaskResponse> insertTasks(Long projectId, List<BulkTaskItem> items, List<StatusDTO> statuses,
+                                           Map<Long, StatusDTO> statusesById) {
+        // Colonnes visées verrouillées dans l'ordre de leurs IDs avant de lire leur fin
+        taskRanking.lockColumns(items.stream()
+                .map(item -> item.getStatusId() != null ? item.getStatusId() : statuses.get(0).getId())
+                .filter(statusesById::containsKey)
+                .collect(Collectors.toSet()));
+
+        Map<Long, Long> lastRanks = new HashMap<>();
+        List<Task> tasks = new ArrayList<>(items.size());
+        for (BulkTaskItem item : items) {
+            StatusDTO status = item.getStatusId() != null ? statusesById.get(item.getStatusId()) : statuses.get(0);
+            if (status == null) {
+                throw new ResourceNotFoundException("Status not found");
+            }
+
+            Long lastRank = lastRanks.get(status.getId());
+            long rank = lastRank != null ? lastRank + TaskRanking.GAP : taskRanking.rankForAppend(status.getId());
+            lastRanks.put(status.getId(), rank);
+
+            Task task = new Task();
+            task.setTitle(item.getTitle());
+            task.setDescription(item.getDescription());
+            task.setStatusId(status.getId());
+            TaskCompletion.apply(task, status);
+            task.setPriority(item.getPriority() != null ? item.getPriority() : Priority.MEDIUM);
+            task.setDueDate(item.getDueDate());
+            task.setProjectId(projectId);
+            task.setAssignedTo(item.getAssignedTo());
+            task.setRank(rank);
+            tasks.add(task);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskCounters.tasksAdded(savedTasks);
+        log.info("{} tasks created in project {}", savedTasks.size(), projectId);
+        eventPublisher.publishEvent(new TasksChangedEvent(projectId));
+
+        return savedTasks.stream()
+                .map(task -> mapToTaskResponse(task, statusesById.get(task.getStatusId())))
+                .toList();
+    }
+
+    /**
+     * Corps de updateTask, dans la transaction ouverte par l'appelant
+     */
+    private TaskResponse applyUpdate(Long taskId, TaskRequest request, Long expectedVersion, Long userId, String role) {
+        // Nouveau statut validé, ou détails du statut courant pour la réponse
+        WriteTarget target = loadForWrite(taskId, expectedVersion, task -> {
+            if (request.getStatusId() != null && !request.getStatusId().equals(task.getStatusId())) {
+                return validateStatus(task.getProjectId(), request.getStatusId(), userId, role);
+            }
+            return fetchStatusDetails(task.getProjectId(), task.getStatusId(), userId, role);
+        }, userId, role);
+        Task task = target.task();
+        StatusDTO status = target.status();
+        TaskCounterId previousKey = TaskCounterId.of(task);
+
         // Mise à jour des champs
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
@@ -181,125 +638,88 @@ public class TaskService {
             task.setAssignedTo(request.getAssignedTo());
         }
 
-        // Si le statut change, valider et recalculer la position
-        if (request.getStatusId() != null && !request.getStatusId().equals(task.getStatusId())) {
-            StatusDTO newStatus = validateStatus(task.getProjectId(), request.getStatusId(), userId, role);
-            task.setStatusId(newStatus.getId());
-
-            // Mettre à la fin de la nouvelle colonne
-            Integer maxPosition = taskRepository.findMaxPositionByStatusId(newStatus.getId());
-            task.setPosition(maxPosition + 1);
+        // Si le statut change, mettre à la fin de la nouvelle colonne
+        if (!status.getId().equals(task.getStatusId())) {
+            task.setStatusId(status.getId());
+            TaskCompletion.apply(task, status);
+            task.setRank(taskRanking.rankForAppend(status.getId()));
         }
 
-        Task updatedTask = taskRepository.save(task);
+        // Flush : version incrémentée (renvoyée en ETag) et conflit détecté ici plutôt qu'au commit
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskCounters.taskMoved(previousKey, updatedTask);
         log.info("Task {} updated", taskId);
-
-        // Récupérer les détails du statut pour la réponse
-        StatusDTO status = fetchStatusDetails(task.getProjectId(), task.getStatusId(), userId, role);
+        eventPublisher.publishEvent(new TasksChangedEvent(updatedTask.getProjectId()));
 
         return mapToTaskResponse(updatedTask, status);
     }
 
     /**
-     * Mettre à jour le statut d'une tâche (drag & drop)
+     * Corps de updateTaskStatus, dans la transaction ouverte par l'appelant
      */
-    @Transactional
-    public TaskResponse updateTaskStatus(Long taskId, UpdateTaskStatusRequest request, Long userId, String role) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
-        // Valider l'accès
-        verifyProjectAccess(task.getProjectId(), userId, role);
-
-        // Valider le nouveau statut appartient au même projet
-        StatusDTO newStatus = validateStatus(task.getProjectId(), request.getStatusId(), userId, role);
+    private TaskResponse applyMove(Long taskId, UpdateTaskStatusRequest request, Long expectedVersion,
+                                   Long userId, String role) {
+        // Valider que le nouveau statut appartient au même projet
+        WriteTarget target = loadForWrite(taskId, expectedVersion,
+                task -> validateStatus(task.getProjectId(), request.getStatusId(), userId, role), userId, role);
+        Task task = target.task();
+        StatusDTO newStatus = target.status();
+
+        // Calculer le nouveau rank : entre les voisines si elles sont données,
+        // sinon à l'index demandé (haut de la colonne par défaut)
+        long rank;
+        if (request.getPreviousTaskId() != null || request.getNextTaskId() != null) {
+            rank = taskRanking.rankBetweenTasks(
+                    newStatus.getId(), taskId, request.getPreviousTaskId(), request.getNextTaskId());
+        } else {
+            int index = request.getPosition() != null ? request.getPosition() : 0;
+            rank = taskRanking.rankAtIndex(newStatus.getId(), taskId, index);
+        }
 
-        // Mettre à jour le statut et la position
+        // Mettre à jour le statut et le rank (une seule ligne écrite)
+        TaskCounterId previousKey = TaskCounterId.of(task);
         task.setStatusId(newStatus.getId());
-        task.setPosition(request.getPosition() != null ? request.getPosition() : 0);
+        TaskCompletion.apply(task, newStatus);
+        task.setRank(rank);
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskCounters.taskMoved(previousKey, updatedTask);
         log.info("Task {} moved to status {}", taskId, newStatus.getName());
+        eventPublisher.publishEvent(new TasksChangedEvent(updatedTask.getProjectId()));
 
         return mapToTaskResponse(updatedTask, newStatus);
     }
 
     /**
-     * Supprimer une tâche
+     * Charger une tâche à modifier
+     * - Accès au projet puis statut (statusLookup), servis par le contexte du projet
+     * - Version différente de If-Match : 412, le statut visé n'est pas validé,
+     *   seuls les détails du statut courant sont chargés pour la réponse
      */
-    @Transactional
-    public void deleteTask(Long taskId, Long userId, String role) {
+    private WriteTarget loadForWrite(Long taskId, Long expectedVersion, Function<Task, StatusDTO> statusLookup,
+                                     Long userId, String role) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
-        // Valider l'accès
+        // Valider l'accès (sur cache froid, charge aussi les statuts du projet)
         verifyProjectAccess(task.getProjectId(), userId, role);
 
-        taskRepository.delete(task);
-        log.info("Task {} deleted", taskId);
-    }
-
-    /**
-     * Obtenir les statistiques des tâches par projet
-     * Compatible avec l'ancien format pour le Project Service
-     */
-    @Transactional(readOnly = true)
-    public TaskStatsResponse getTaskStatsByProject(Long projectId) {
-        log.info("Fetching task stats for project {}", projectId);
-
-        // Compter le total
-        Long totalTasks = taskRepository.countByProjectId(projectId);
-
-        // Pour la compatibilité, on essaie de trouver les statuts par nom
-        // Sinon retourne 0 pour chaque catégorie
-        int todoTasks = 0;
-        int inProgressTasks = 0;
-        int doneTasks = 0;
-
-        try {
-            // Appel système pour récupérer les statuts
-            // On utilise un userId fictif pour les appels internes
-            List<StatusDTO> statuses = projectServiceClient.getProjectStatuses(projectId, 0L, "ADMIN");
-
-            for (StatusDTO status : statuses) {
-                Long count = taskRepository.countByProjectIdAndStatusId(projectId, status.getId());
-
-                // Mapper par nom pour compatibilité avec l'ancien système
-                if ("To Do".equalsIgnoreCase(status.getName()) || "TODO".equalsIgnoreCase(status.getName())) {
-                    todoTasks = count.intValue();
-                } else if ("In Progress".equalsIgnoreCase(status.getName()) || "IN_PROGRESS".equalsIgnoreCase(status.getName())) {
-                    inProgressTasks = count.intValue();
-                } else if ("Done".equalsIgnoreCase(status.getName())) {
-                    doneTasks = count.intValue();
-                }
-            }
-        } catch (Exception e) {
-            log.error("Failed to fetch statuses for stats, returning totals only", e);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            StatusDTO current = fetchStatusDetails(task.getProjectId(), task.getStatusId(), userId, role);
+            throw TaskVersionConflictException.preconditionFailed(mapToTaskResponse(task, current));
         }
-
-        return TaskStatsResponse.builder()
-                .projectId(projectId)
-                .totalTasks(totalTasks.intValue())
-                .todoTasks(todoTasks)
-                .inProgressTasks(inProgressTasks)
-                .doneTasks(doneTasks)
-                .build();
+        return new WriteTarget(task, statusLookup.apply(task));
     }
 
-    // ========== MÉTHODES PRIVÉES ==========
-
     /**
      * Valider qu'un statut existe et appartient au projet
      */
     private StatusDTO validateStatus(Long projectId, Long statusId, Long userId, String role) {
         try {
-            StatusDTO status = projectServiceClient.getStatusById(projectId, statusId, userId, role);
-
-            if (status == null || !status.getProjectId().equals(projectId)) {
-                throw new BadRequestException("Invalid status for this project");
-            }
-
-            return status;
+            return statusCache.findStatus(projectId, statusId, userId, role)
+                    .orElseThrow(() -> new ResourceNotFoundException("Status not found"));
+        } catch (ResourceNotFoundException | ServiceUnavailableException e) {
+            throw e;
         } catch (FeignException.NotFound e) {
             throw new ResourceNotFoundException("Status not found");
         } catch (FeignException.Forbidden e) {
@@ -315,7 +735,7 @@ public class TaskService {
      */
     private StatusDTO getFirstProjectStatus(Long projectId, Long userId, String role) {
         try {
-            List<StatusDTO> statuses = projectServiceClient.getProjectStatuses(projectId, userId, role);
+            List<StatusDTO> statuses = statusCache.getStatuses(projectId, userId, role);
 
             if (statuses.isEmpty()) {
                 throw new BadRequestException("No statuses found for this project");
@@ -323,6 +743,8 @@ public class TaskService {
 
             // Retourner le premier statut (normalement "To Do")
             return statuses.get(0);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to fetch statuses for project {}", projectId, e);
             throw new BadRequestException("Failed to get project statuses");
@@ -334,15 +756,12 @@ public class TaskService {
      */
     private StatusDTO fetchStatusDetails(Long projectId, Long statusId, Long userId, String role) {
         try {
-            return projectServiceClient.getStatusById(projectId, statusId, userId, role);
+            return statusCache.findStatus(projectId, statusId, userId, role)
+                    .orElseGet(() -> unknownStatus(statusId));
         } catch (Exception e) {
             log.error("Failed to fetch status details", e);
             // Retourner un statut minimal si l'appel échoue
-            return StatusDTO.builder()
-                    .id(statusId)
-                    .name("Unknown")
-                    .color("#999999")
-                    .build();
+            return unknownStatus(statusId);
         }
     }
 
@@ -350,8 +769,12 @@ public class TaskService {
      * Valider l'accès au projet
      */
     private void verifyProjectAccess(Long projectId, Long userId, String role) {
+        ProjectAccessDTO access;
         try {
-            projectServiceClient.getProjectById(projectId, userId, role);
+            access = accessCache.getAccess(projectId, userId, role);
+        } catch (ServiceUnavailableException e) {
+            // Aucune décision connue : 503 immédiat (circuit ouvert) plutôt qu'une attente
+            throw e;
         } catch (FeignException.NotFound e) {
             throw new ResourceNotFoundException("Project not found");
         } catch (FeignException.Forbidden e) {
@@ -360,15 +783,19 @@ public class TaskService {
             log.error("Failed to verify project access for projectId: {}", projectId, e);
             throw new BadRequestException("Failed to verify project access");
         }
+
+        if (!access.isGranted()) {
+            throw new BadRequestException("No access to this project");
+        }
     }
 
     /**
      * Enrichir les tâches avec les détails des statuts (batch)
      */
-    private Page<TaskResponse> enrichTasksWithStatuses(Page<Task> tasks, Long projectId, Long userId, String role) {
+    private Page<TaskResponse> enrichTasksWithStatuses(Page<TaskCard> tasks, Long projectId, Long userId, String role) {
         try {
-            // Récupérer tous les statuts du projet en une seule fois
-            List<StatusDTO> statuses = projectServiceClient.getProjectStatuses(projectId, userId, role);
+            // Récupérer tous les statuts du projet en une seule fois (cache local)
+            List<StatusDTO> statuses = statusCache.getStatuses(projectId, userId, role);
 
             // Créer un map pour lookup rapide
             Map<Long, StatusDTO> statusMap = statuses.stream()
@@ -376,7 +803,7 @@ public class TaskService {
 
             // Enrichir les tâches
             return tasks.map(task -> {
-                StatusDTO status = statusMap.get(task.getStatusId());
+                StatusDTO status = statusMap.get(task.statusId());
                 if (status != null) {
                     return mapToTaskResponse(task, status);
                 } else {
@@ -390,6 +817,123 @@ public class TaskService {
         }
     }
 
+    /**
+     * Listes sans projet : seulement ses tâches assignées, ou tout pour un ADMIN
+     */
+    private void verifyListingAccess(TaskFilter filter, Long userId, String role) {
+        if (filter.getProjectId() != null) {
+            verifyProjectAccess(filter.getProjectId(), userId, role);
+        } else if (filter.getAssignedTo() == null && !"ADMIN".equals(role)) {
+            throw new BadRequestException("Must specify projectId or assignedTo");
+        }
+    }
+
+    /**
+     * Ajouter titre et extraits surlignés aux tâches d'une page de recherche (une requête pour la page)
+     */
+    private void addSearchHighlights(List<TaskResponse> tasks, String search) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<Long, TaskSearchHit> hits = taskRepository.findSearchHighlights(
+                        tasks.stream().map(TaskResponse::getId).toList(), search)
+                .stream()
+                .collect(Collectors.toMap(TaskSearchHit::getId, hit -> hit));
+
+        for (TaskResponse task : tasks) {
+            TaskSearchHit hit = hits.get(task.getId());
+            if (hit != null) {
+                task.setHighlightedTitle(hit.getHighlightedTitle());
+                task.setSnippet(hit.getSnippet());
+            }
+        }
+    }
+
+    /**
+     * Ajouter nom et avatar des assignés depuis l'annuaire local (une recherche pour toutes les tâches)
+     */
+    private void addAssignees(List<TaskResponse> tasks) {
+        Set<Long> userIds = tasks.stream()
+                .map(TaskResponse::getAssignedUser)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Map<Long, AssignedUserDTO> users = userDirectory.getUsers(userIds);
+        for (TaskResponse task : tasks) {
+            if (task.getAssignedUser() != null) {
+                task.setAssignee(users.get(task.getAssignedUser()));
+            }
+        }
+    }
+
+    private TaskResponse withAssignee(TaskResponse task) {
+        addAssignees(List.of(task));
+        return task;
+    }
+
+    /**
+     * Construire une colonne du tableau (tasks contient au plus limit + 1 cartes)
+     */
+    private BoardColumnResponse buildColumn(StatusDTO status, List<TaskCard> tasks, int limit) {
+        boolean hasMore = tasks.size() > limit;
+        List<TaskCard> page = hasMore ? tasks.subList(0, limit) : tasks;
+
+        return BoardColumnResponse.builder()
+                .status(status)
+                .tasks(page.stream()
+                        .map(task -> mapToTaskResponse(task, status))
+                        .collect(Collectors.toList()))
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? RankCursor.after(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private int clampColumnLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_CARDS_PER_COLUMN));
+    }
+
+    private int clampListLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_TASKS_PER_PAGE));
+    }
+
+    /**
+     * Enrichir des tâches de plusieurs projets avec les détails des statuts
+     * Un seul appel pour tous les projets distincts de la page (cache local)
+     */
+    private Page<TaskResponse> enrichCrossProjectTasks(Page<TaskCard> tasks, Long userId, String role) {
+        Set<Long> projectIds = tasks.stream()
+                .map(TaskCard::projectId)
+                .collect(Collectors.toSet());
+
+        if (projectIds.isEmpty()) {
+            return tasks.map(this::mapToTaskResponseWithoutStatus);
+        }
+
+        try {
+            // Statuts en cache servis seulement pour les projets dont l'accès est déjà connu
+            Predicate<Long> knownAccessible = projectId ->
+                    "ADMIN".equals(role) || accessCache.isKnownGranted(projectId, userId, role);
+            Map<Long, StatusDTO> statusMap = statusCache.getStatusesForProjects(projectIds, userId, role, knownAccessible)
+                    .values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toMap(StatusDTO::getId, s -> s));
+
+            return tasks.map(task -> {
+                StatusDTO status = statusMap.get(task.statusId());
+                if (status != null) {
+                    return mapToTaskResponse(task, status);
+                } else {
+                    return mapToTaskResponseWithoutStatus(task);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to enrich tasks of projects {} with statuses", projectIds, e);
+            return tasks.map(this::mapToTaskResponseWithoutStatus);
+        }
+    }
+
     /**
      * Mapper Task vers TaskResponse avec statut enrichi
      */
@@ -403,32 +947,54 @@ public class TaskService {
                 .dueDate(task.getDueDate())
                 .projectId(task.getProjectId())
                 .assignedUser(task.getAssignedTo())
-                .position(task.getPosition())
+                .position(task.getRank())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
+                .build();
+    }
+
+    /**
+     * Statut minimal quand les détails ne sont pas disponibles
+     */
+    private StatusDTO unknownStatus(Long statusId) {
+        return StatusDTO.builder()
+                .id(statusId)
+                .name("Unknown")
+                .color("#999999")
                 .build();
     }
 
     /**
-     * Mapper Task vers TaskResponse sans détails de statut (fallback)
+     * Mapper une carte vers TaskResponse avec statut enrichi (début de la description seulement)
      */
-    private TaskResponse mapToTaskResponseWithoutStatus(Task task) {
+    private TaskResponse mapToTaskResponse(TaskCard card, StatusDTO status) {
         return TaskResponse.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .status(StatusDTO.builder()
-                        .id(task.getStatusId())
-                        .name("Unknown")
-                        .color("#999999")
-                        .build())
-                .priority(task.getPriority())
-                .dueDate(task.getDueDate())
-                .projectId(task.getProjectId())
-                .assignedUser(task.getAssignedTo())
-                .position(task.getPosition())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
+                .id(card.id())
+                .title(card.title())
+                .descriptionPreview(card.descriptionPreview())
+                .status(status)
+                .priority(card.priority())
+                .dueDate(card.dueDate())
+                .projectId(card.projectId())
+                .assignedUser(card.assignedTo())
+                .position(card.rank())
+                .createdAt(card.createdAt())
+                .updatedAt(card.updatedAt())
+                .version(card.version())
                 .build();
     }
+
+    /**
+     * Mapper une carte vers TaskResponse sans détails de statut (fallback)
+     */
+    private TaskResponse mapToTaskResponseWithoutStatus(TaskCard card) {
+        return mapToTaskResponse(card, unknownStatus(card.statusId()));
+    }
+
+    /**
+     * Tâche à modifier et statut résolu pour l'écriture
+     */
+    private record WriteTarget(Task task, StatusDTO status) {
+    }
 }
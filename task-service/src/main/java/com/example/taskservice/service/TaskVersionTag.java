@@ -0,0 +1,35 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.exception.BadRequestException;
+
+/**
+ * ETag d'une tâche : sa version entre guillemets ("3")
+ * If-Match n'accepte qu'un ETag fort unique, ou * (aucune condition)
+ */
+public final class TaskVersionTag {
+
+    private TaskVersionTag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Version attendue d'un en-tête If-Match ; null si absent ou *
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new BadRequestException("If-Match must be a single strong ETag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match must be a single strong ETag");
+        }
+    }
+}
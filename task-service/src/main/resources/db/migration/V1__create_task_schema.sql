@@ -0,0 +1,87 @@
+-- Schéma initial ; une base existante créée par Hibernate (ddl-auto: update) est reprise (baseline-on-migrate, version 0)
+-- IF NOT EXISTS : tables existantes conservées, colonnes ajoutées depuis la première version complétées ci-dessous
+
+-- IDs tirés par blocs de 50 (Task.ID_ALLOCATION_SIZE) : INSERT par lots JDBC
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id           BIGINT       PRIMARY KEY,
+    title        VARCHAR(100) NOT NULL,
+    description  TEXT,
+    status_id    BIGINT       NOT NULL,
+    priority     VARCHAR(20)  NOT NULL,
+    due_date     DATE,
+    project_id   BIGINT       NOT NULL,
+    assigned_to  BIGINT,
+    rank_key     BIGINT,
+    position     INTEGER      NOT NULL DEFAULT 0,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
+
+-- Table créée par Hibernate avant rank_key (seulement position) : colonne ajoutée avant ses index,
+-- remplie par V2 à partir de position
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS rank_key BIGINT;
+
+-- Tâches créées avec l'ancienne colonne IDENTITY : la séquence repart au-delà du plus grand ID
+SELECT setval('tasks_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM tasks) + 50,
+        (SELECT last_value FROM tasks_seq)));
+
+CREATE INDEX IF NOT EXISTS idx_tasks_status_rank ON tasks (status_id, rank_key);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created ON tasks (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_rank ON tasks (project_id, status_id, rank_key);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_assignee ON tasks (project_id, assigned_to);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_due ON tasks (project_id, due_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_due ON tasks (assigned_to, due_date);
+
+-- Recherche : sous-chaîne / tolérance aux fautes sur les titres
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Vecteur plein texte maintenu par PostgreSQL : titre (poids A) + description (poids B)
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING GIN (title gin_trgm_ops);
+
+-- Compteurs par (projet, colonne, assigné) ; assigned_to = 0 pour les tâches non assignées
+CREATE TABLE IF NOT EXISTS task_counters (
+    project_id   BIGINT NOT NULL,
+    status_id    BIGINT NOT NULL,
+    assigned_to  BIGINT NOT NULL,
+    task_count   BIGINT NOT NULL,
+    PRIMARY KEY (project_id, status_id, assigned_to)
+);
+
+-- Migration des tâches d'un statut supprimé
+CREATE TABLE IF NOT EXISTS status_migrations (
+    status_id         BIGINT       PRIMARY KEY,
+    project_id        BIGINT       NOT NULL,
+    target_status_id  BIGINT       NOT NULL,
+    state             VARCHAR(20)  NOT NULL,
+    total_tasks       BIGINT       NOT NULL,
+    moved_tasks       BIGINT       NOT NULL,
+    last_error        VARCHAR(500),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    completed_at      TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_status_migrations_state ON status_migrations (state);
+
+-- Suppression des tâches d'un projet supprimé
+CREATE TABLE IF NOT EXISTS project_cleanups (
+    project_id     BIGINT       PRIMARY KEY,
+    state          VARCHAR(20)  NOT NULL,
+    deleted_tasks  BIGINT       NOT NULL,
+    last_error     VARCHAR(500),
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    completed_at   TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_cleanups_state ON project_cleanups (state);
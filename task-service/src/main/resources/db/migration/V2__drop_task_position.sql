@@ -0,0 +1,15 @@
+-- rank_key remplace l'ancienne position (index) des cartes
+
+-- Tâches encore sans rank : rangées selon leur ancienne position, avant celles déjà rangées de leur colonne
+UPDATE tasks t SET rank_key = r.rn * 65536
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY status_id
+                                  ORDER BY (rank_key IS NOT NULL), rank_key, position, id) AS rn
+    FROM tasks
+    WHERE status_id IN (SELECT DISTINCT status_id FROM tasks WHERE rank_key IS NULL)
+) r
+WHERE t.id = r.id;
+
+ALTER TABLE tasks ALTER COLUMN rank_key SET NOT NULL;
+
+ALTER TABLE tasks DROP COLUMN position;
@@ -0,0 +1,6 @@
+-- Version des données de chaque projet, incrémentée à chaque écriture de tâche
+-- Sert d'ETag aux listes et au tableau : une ligne lue par requête conditionnelle
+CREATE TABLE project_versions (
+    project_id  BIGINT PRIMARY KEY,
+    version     BIGINT NOT NULL
+);
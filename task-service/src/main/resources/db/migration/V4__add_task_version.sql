@@ -0,0 +1,2 @@
+-- Verrouillage optimiste des tâches (Task.version) : ETag / If-Match des modifications
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
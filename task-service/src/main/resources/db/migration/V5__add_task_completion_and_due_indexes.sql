@@ -0,0 +1,12 @@
+-- Tâche terminée : posée quand la tâche entre dans une colonne "Done", effacée quand elle en sort
+-- Les tâches existantes restent ouvertes jusqu'à leur prochain changement de colonne
+ALTER TABLE tasks ADD COLUMN completed_at TIMESTAMP(6);
+
+-- Échéances des seules tâches ouvertes (index partiels) : en retard / à échéance proche
+CREATE INDEX idx_tasks_open_due ON tasks (due_date, id)
+    WHERE completed_at IS NULL AND due_date IS NOT NULL;
+CREATE INDEX idx_tasks_open_project_due ON tasks (project_id, due_date, id)
+    WHERE completed_at IS NULL AND due_date IS NOT NULL;
+-- Sert aussi au parcours par utilisateur du récapitulatif quotidien (DueDigestJob)
+CREATE INDEX idx_tasks_open_assignee_due ON tasks (assigned_to, due_date, id)
+    WHERE completed_at IS NULL AND due_date IS NOT NULL;
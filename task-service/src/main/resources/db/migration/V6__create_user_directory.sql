@@ -0,0 +1,13 @@
+-- Annuaire local des utilisateurs : nom et avatar des assignés, répliqués depuis Auth Service
+-- Alimenté par les notifications de changement (changed_at : un changement plus ancien n'écrase jamais
+-- un plus récent) et, pour un utilisateur encore inconnu, par une lecture groupée auprès d'Auth Service
+-- deleted : utilisateur supprimé, conservé pour ne pas le redemander
+CREATE TABLE user_directory (
+    user_id     BIGINT PRIMARY KEY,
+    first_name  VARCHAR(50),
+    last_name   VARCHAR(50),
+    avatar_url  VARCHAR(255),
+    active      BOOLEAN NOT NULL DEFAULT TRUE,
+    deleted     BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at  TIMESTAMP(6) NOT NULL
+);
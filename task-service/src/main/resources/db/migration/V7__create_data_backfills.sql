@@ -0,0 +1,6 @@
+-- Rattrapages de données ponctuels exécutés par le service (ex. completed_at des tâches antérieures à V5)
+-- Une ligne par rattrapage terminé : il n'est plus relancé
+CREATE TABLE data_backfills (
+    name          VARCHAR(100) PRIMARY KEY,
+    completed_at  TIMESTAMP(6) NOT NULL
+);
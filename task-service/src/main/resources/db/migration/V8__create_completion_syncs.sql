@@ -0,0 +1,6 @@
+-- Projets dont les tâches doivent suivre leurs colonnes "Done" après un changement de statuts (renommage)
+-- Une ligne par projet en attente, supprimée une fois completed_at recalculé
+CREATE TABLE completion_syncs (
+    project_id    BIGINT PRIMARY KEY,
+    requested_at  TIMESTAMP(6) NOT NULL
+);
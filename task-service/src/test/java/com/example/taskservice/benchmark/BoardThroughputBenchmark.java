@@ -0,0 +1,126 @@
+package com.example.taskservice.benchmark;
+
+import com.example.taskservice.client.AuthServiceClient;
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.ProjectAccessDTO;
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.dto.StatusDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Débit de GET /api/v1/tasks/board quand chaque requête attend Project Service
+ * - Cache d'accès désactivé (TTL 0) et un utilisateur différent par requête : chaque requête
+ *   vérifie l'accès auprès de Project Service (les statuts restent en cache, clé partagée par projet)
+ * - Project Service est simulé avec une latence fixe, le thread de requête reste bloqué pendant l'appel
+ * - Tomcat est limité à quelques threads : avec des threads plateforme les requêtes font la queue,
+ *   avec des virtual threads elles attendent en parallèle
+ *
+ * Sous-classes : platform threads / virtual threads (JRE 21), même scénario
+ *
+ * Lancer contre une base PostgreSQL : mvn test -Pbenchmark -Dtest='*ThreadBoardBenchmarkTest'
+ * -Dbenchmark.datasource.url=... -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=...
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.config.location=optional:classpath:/benchmark.yml",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=${benchmark.datasource.url:jdbc:postgresql://localhost:5432/task_db}",
+        "spring.datasource.username=${benchmark.datasource.username:task_user}",
+        "spring.datasource.password=${benchmark.datasource.password:task_pass}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "server.tomcat.threads.max=20",
+        "app.cache.access.ttl-seconds=0"
+})
+abstract class BoardThroughputBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 400);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 100);
+    private static final long REMOTE_LATENCY_MS = Long.getLong("benchmark.remote-latency-ms", 50);
+    private static final long PROJECT_ID = 9_000_000L;
+    private static final String ROLE = "ADMIN";
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private ProjectServiceClient projectServiceClient;
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    /**
+     * Libellé du mode affiché dans le résultat
+     */
+    abstract String mode();
+
+    @BeforeEach
+    void setUp() {
+        StatusDTO todo = StatusDTO.builder().id(9_000_001L).name("To Do").projectId(PROJECT_ID).position(0).build();
+        when(projectServiceClient.getProjectContext(eq(PROJECT_ID), anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(REMOTE_LATENCY_MS);
+                    return ProjectContextDTO.builder()
+                            .projectId(PROJECT_ID)
+                            .access(ProjectAccessDTO.builder().projectId(PROJECT_ID).accessLevel(ROLE).granted(true).build())
+                            .statuses(List.of(todo))
+                            .version(1L)
+                            .build();
+                });
+    }
+
+    @Test
+    void boardThroughput() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        // Échauffement (JIT, pool JDBC, connexions HTTP, cache des statuts)
+        client.send(boardRequest(0), HttpResponse.BodyHandlers.discarding());
+
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>(REQUESTS);
+            for (int i = 1; i <= REQUESTS; i++) {
+                HttpRequest request = boardRequest(i);
+                results.add(callers.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isEqualTo(200);
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("Board reads, %s threads, %d requests x %d concurrent, remote latency %d ms: %.0f req/s%n",
+                    mode(), REQUESTS, CONCURRENCY, REMOTE_LATENCY_MS, REQUESTS / elapsedSeconds);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private HttpRequest boardRequest(long userId) {
+        return HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/tasks/board?projectId=" + PROJECT_ID))
+                .header("X-User-Id", String.valueOf(userId))
+                .header("X-User-Role", ROLE)
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.taskservice.benchmark;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.ProjectAccessDTO;
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.dto.StatusDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.codec.Decoder;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Client HTTP de Feign : client par défaut (HttpURLConnection) vs pool Apache HttpClient 5
+ * - Project Service simulé par un serveur local (latence fixe, réponse gzip si demandée)
+ * - Même interface ProjectServiceClient et même contrat Spring MVC que l'application
+ * - Pool configuré comme spring.cloud.openfeign.httpclient.* (200 connexions, 50 par route, LIFO)
+ * Mesure débit, latences p50 / p99 et connexions TCP ouvertes côté serveur
+ *
+ * Lancer : mvn test -Pbenchmark -Dtest=FeignClientPoolBenchmarkTest
+ * -Dbenchmark.requests=... -Dbenchmark.concurrency=... -Dbenchmark.remote-latency-ms=...
+ */
+@Tag("benchmark")
+public class FeignClientPoolBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 4000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final long REMOTE_LATENCY_MS = Long.getLong("benchmark.remote-latency-ms", 2);
+    private static final int STATUSES = 12;
+
+    static {
+        // Sans TCP_NODELAY, le serveur JDK attend l'ACK retardé (~40 ms) entre en-têtes et corps
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+    private byte[] body;
+    private byte[] gzippedBody;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        ProjectContextDTO context = ProjectContextDTO.builder()
+                .projectId(1L)
+                .access(ProjectAccessDTO.builder().projectId(1L).userId(5L).accessLevel("MEMBER").granted(true).build())
+                .statuses(IntStream.range(0, STATUSES)
+                        .mapToObj(i -> StatusDTO.builder().id((long) i).name("Column " + i).color("#607d8b")
+                                .projectId(1L).position(i).isDefault(i < 3).build())
+                        .toList())
+                .version(1L)
+                .build();
+        body = objectMapper.writeValueAsBytes(context);
+        gzippedBody = gzip(body);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+        server.setExecutor(Executors.newFixedThreadPool(CONCURRENCY * 2));
+        server.createContext("/api/v1/projects/", this::answer);
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void clientParDefaut_vs_poolHttpClient5() throws Exception {
+        Result plain = run("default", new Client.Default(null, null));
+
+        try (CloseableHttpClient httpClient = pooledHttpClient()) {
+            Result pooled = run("hc5 pool", new ApacheHttp5Client(httpClient));
+
+            System.out.printf("Feign, %d requests x %d concurrent, remote latency %d ms%n",
+                    REQUESTS, CONCURRENCY, REMOTE_LATENCY_MS);
+            for (Result result : List.of(plain, pooled)) {
+                System.out.printf("  %-9s %6.0f req/s, p50 %5.2f ms, p99 %6.2f ms, %4d connections opened%n",
+                        result.name(), result.throughput(), result.p50Ms(), result.p99Ms(), result.connections());
+            }
+            assertThat(pooled.connections()).isLessThanOrEqualTo(CONCURRENCY);
+        }
+    }
+
+    private Result run(String name, Client client) throws Exception {
+        ProjectServiceClient projectClient = Feign.builder()
+                .client(client)
+                .contract(new SpringMvcContract())
+                .decoder(jsonDecoder())
+                .options(new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, false))
+                .target(ProjectServiceClient.class, "http://localhost:" + server.getAddress().getPort());
+
+        // Échauffement (JIT, premières connexions)
+        measure(projectClient, CONCURRENCY * 10);
+        connections.clear();
+
+        long start = System.nanoTime();
+        long[] latencies = measure(projectClient, REQUESTS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        return new Result(name, REQUESTS / elapsedSeconds,
+                latencies[latencies.length / 2] / 1_000_000.0,
+                latencies[(int) (latencies.length * 0.99)] / 1_000_000.0,
+                connections.size());
+    }
+
+    private long[] measure(ProjectServiceClient projectClient, int requests) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<Long>> results = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                results.add(callers.submit(() -> {
+                    long start = System.nanoTime();
+                    ProjectContextDTO context = projectClient.getProjectContext(1L, 5L, "USER");
+                    assertThat(context.getStatuses()).hasSize(STATUSES);
+                    return System.nanoTime() - start;
+                }));
+            }
+            long[] latencies = new long[requests];
+            for (int i = 0; i < requests; i++) {
+                latencies[i] = results.get(i).get();
+            }
+            return latencies;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        connections.add(exchange.getRemoteAddress());
+        try {
+            Thread.sleep(REMOTE_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] payload = gzip ? gzippedBody : body;
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+
+    private CloseableHttpClient pooledHttpClient() {
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(50)
+                        .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(15))
+                .disableCookieManagement()
+                .build();
+    }
+
+    private Decoder jsonDecoder() {
+        return (response, type) -> objectMapper.readValue(response.body().asInputStream(),
+                objectMapper.constructType(type));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private record Result(String name, double throughput, double p50Ms, double p99Ms, int connections) {
+    }
+}
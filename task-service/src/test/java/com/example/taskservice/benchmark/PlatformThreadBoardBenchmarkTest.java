@@ -0,0 +1,15 @@
+package com.example.taskservice.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Débit du tableau avec le pool de threads plateforme de Tomcat
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+public class PlatformThreadBoardBenchmarkTest extends BoardThroughputBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.taskservice.benchmark;
+
+import com.example.taskservice.cache.ProjectAccessCache;
+import com.example.taskservice.cache.ProjectStatusCache;
+import com.example.taskservice.client.AuthServiceClient;
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.BulkTaskItem;
+import com.example.taskservice.dto.BulkTaskRequest;
+import com.example.taskservice.dto.ProjectAccessDTO;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.dto.TaskRequest;
+import com.example.taskservice.entity.Priority;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Débit de création de tâches : appel unitaire (POST /api/v1/tasks) vs import groupé (POST /api/v1/tasks/bulk)
+ * Les appels à Project Service sont simulés pour ne mesurer que la base
+ *
+ * Lancer contre une base PostgreSQL : mvn test -Pbenchmark
+ * -Dbenchmark.datasource.url=... -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=...
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.location=optional:classpath:/benchmark.yml",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=${benchmark.datasource.url:jdbc:postgresql://localhost:5432/task_db}",
+        "spring.datasource.username=${benchmark.datasource.username:task_user}",
+        "spring.datasource.password=${benchmark.datasource.password:task_pass}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true"
+})
+public class TaskCreationBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2000);
+    private static final long PROJECT_ID = 9_000_000L;
+    private static final long USER_ID = 1L;
+    private static final String ROLE = "ADMIN";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private ProjectStatusCache statusCache;
+
+    @MockBean
+    private ProjectAccessCache accessCache;
+
+    @MockBean
+    private ProjectServiceClient projectServiceClient;
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        StatusDTO todo = StatusDTO.builder().id(9_000_001L).name("To Do").projectId(PROJECT_ID).position(0).build();
+        when(accessCache.getAccess(eq(PROJECT_ID), anyLong(), anyString()))
+                .thenReturn(ProjectAccessDTO.builder().projectId(PROJECT_ID).accessLevel(ROLE).granted(true).build());
+        when(statusCache.getStatuses(eq(PROJECT_ID), anyLong(), anyString())).thenReturn(List.of(todo));
+        cleanUp();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAllInBatch(taskRepository.findByProjectIdOrderByRankAsc(PROJECT_ID));
+    }
+
+    @Test
+    void oneByOne_vs_bulk() {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Imported task " + i);
+            request.setPriority(Priority.MEDIUM);
+            request.setProjectId(PROJECT_ID);
+            taskService.createTask(request, USER_ID, ROLE);
+        }
+        double oneByOne = rowsPerSecond(System.nanoTime() - start);
+        cleanUp();
+
+        BulkTaskRequest bulk = BulkTaskRequest.builder()
+                .projectId(PROJECT_ID)
+                .tasks(IntStream.range(0, ROWS)
+                        .mapToObj(i -> BulkTaskItem.builder().title("Imported task " + i).build())
+                        .toList())
+                .build();
+        start = System.nanoTime();
+        taskService.createTasks(bulk, USER_ID, ROLE);
+        double batched = rowsPerSecond(System.nanoTime() - start);
+
+        System.out.printf("Task creation, %d rows: one-by-one %.0f rows/s, bulk %.0f rows/s (x%.1f)%n",
+                ROWS, oneByOne, batched, batched / oneByOne);
+        assertThat(taskRepository.findByProjectIdOrderByRankAsc(PROJECT_ID)).hasSize(ROWS);
+    }
+
+    private double rowsPerSecond(long elapsedNanos) {
+        return ROWS / (elapsedNanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskservice.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Débit du tableau avec une requête par virtual thread (Tomcat, appels Feign et JDBC sur le même thread)
+ * Ignoré en dessous de Java 21
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+public class VirtualThreadBoardBenchmarkTest extends BoardThroughputBenchmark {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.ProjectAccessDTO;
+import com.example.taskservice.dto.ProjectContextDTO;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.exception.ForbiddenException;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectStatusCacheTest {
+
+    @Mock
+    private ProjectServiceClient projectServiceClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LastKnownProjectData lastKnown;
+    private ProjectStatusCache statusCache;
+
+    private StatusDTO todo;
+    private StatusDTO done;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lastKnown = new LastKnownProjectData(meterRegistry, 600, 100);
+        statusCache = new ProjectStatusCache(projectServiceClient, lastKnown, meterRegistry, 300, 100);
+
+        todo = StatusDTO.builder().id(1L).name("To Do").projectId(10L).position(0).build();
+        done = StatusDTO.builder().id(2L).name("Done").projectId(10L).position(1).build();
+        request("GET");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getStatuses_appelle_project_service_une_seule_fois() {
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo, done));
+
+        statusCache.getStatuses(10L, 5L, "USER");
+        List<StatusDTO> statuses = statusCache.getStatuses(10L, 5L, "USER");
+
+        assertThat(statuses).containsExactly(todo, done);
+        verify(projectServiceClient, times(1)).getProjectContext(10L, 5L, "USER");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ProjectStatusCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ProjectStatusCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_force_le_rechargement() {
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo));
+
+        statusCache.getStatuses(10L, 5L, "USER");
+        statusCache.invalidate(10L);
+        statusCache.getStatuses(10L, 5L, "USER");
+
+        verify(projectServiceClient, times(2)).getProjectContext(10L, 5L, "USER");
+    }
+
+    @Test
+    void getStatusesForProjects_charge_seulement_les_projets_absents_en_un_appel() {
+        StatusDTO other = StatusDTO.builder().id(3L).name("To Do").projectId(20L).position(0).build();
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo, done));
+        when(projectServiceClient.getStatusesForProjects(List.of(20L), 5L, "USER"))
+                .thenReturn(Map.of(20L, List.of(other)));
+
+        statusCache.getStatuses(10L, 5L, "USER");
+        Map<Long, List<StatusDTO>> statuses = statusCache.getStatusesForProjects(Set.of(10L, 20L), 5L, "USER", projectId -> true);
+
+        assertThat(statuses.get(10L)).containsExactly(todo, done);
+        assertThat(statuses.get(20L)).containsExactly(other);
+        verify(projectServiceClient, times(1)).getStatusesForProjects(List.of(20L), 5L, "USER");
+    }
+
+    @Test
+    void getStatusesForProjects_ne_sert_pas_une_entree_en_cache_sans_acces_connu() {
+        // Statuts du projet 10 chargés par son membre (utilisateur 5)
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo, done));
+        statusCache.getStatuses(10L, 5L, "USER");
+        // L'utilisateur 6 n'y a pas accès : Project Service ne renvoie pas le projet
+        when(projectServiceClient.getStatusesForProjects(List.of(10L), 6L, "USER")).thenReturn(Map.of());
+
+        Map<Long, List<StatusDTO>> statuses = statusCache.getStatusesForProjects(Set.of(10L), 6L, "USER", projectId -> false);
+
+        assertThat(statuses).isEmpty();
+        verify(projectServiceClient).getStatusesForProjects(List.of(10L), 6L, "USER");
+    }
+
+    @Test
+    void findStatus_recharge_une_fois_si_statut_inconnu() {
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER"))
+                .thenReturn(context(1L, todo))
+                .thenReturn(context(2L, todo, done));
+
+        Optional<StatusDTO> status = statusCache.findStatus(10L, 2L, 5L, "USER");
+
+        assertThat(status).contains(done);
+        verify(projectServiceClient, times(2)).getProjectContext(10L, 5L, "USER");
+    }
+
+    @Test
+    void findStatus_retourne_vide_si_statut_absent_du_projet() {
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo));
+
+        assertThat(statusCache.findStatus(10L, 99L, 5L, "USER")).isEmpty();
+    }
+
+    @Test
+    void getStatuses_refuse_sans_mettre_en_cache_si_acces_refuse() {
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(ProjectContextDTO.builder()
+                .projectId(10L)
+                .access(ProjectAccessDTO.builder().projectId(10L).accessLevel("NONE").granted(false).build())
+                .statuses(List.of())
+                .version(1L)
+                .build());
+
+        assertThatThrownBy(() -> statusCache.getStatuses(10L, 5L, "USER")).isInstanceOf(ForbiddenException.class);
+        assertThat(statusCache.peekStatuses(10L)).isEmpty();
+    }
+
+    @Test
+    void seed_garde_la_version_la_plus_recente() {
+        statusCache.seed(10L, List.of(todo, done), 3L);
+        statusCache.seed(10L, List.of(todo), 2L);
+
+        assertThat(statusCache.peekStatuses(10L)).contains(List.of(todo, done));
+
+        statusCache.seed(10L, List.of(done), 4L);
+
+        assertThat(statusCache.peekStatuses(10L)).contains(List.of(done));
+    }
+
+    @Test
+    void chargement_de_l_acces_remplit_le_cache_des_statuts() {
+        ProjectAccessCache accessCache = new ProjectAccessCache(projectServiceClient, statusCache, lastKnown,
+                meterRegistry, 30, 100);
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo, done));
+
+        accessCache.getAccess(10L, 5L, "USER");
+        List<StatusDTO> statuses = statusCache.getStatuses(10L, 5L, "USER");
+
+        assertThat(statuses).containsExactly(todo, done);
+        verify(projectServiceClient, times(1)).getProjectContext(10L, 5L, "USER");
+    }
+
+    @Test
+    void project_service_indisponible_sert_les_derniers_statuts_connus_sans_les_cacher() {
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER"))
+                .thenReturn(context(1L, todo, done))
+                .thenThrow(unavailable())
+                .thenReturn(context(2L, todo));
+
+        statusCache.getStatuses(10L, 5L, "USER");
+        statusCache.invalidate(10L);
+
+        assertThat(statusCache.getStatuses(10L, 5L, "USER")).containsExactly(todo, done);
+        assertThat(statusCache.peekStatuses(10L)).isEmpty();
+        assertThat(meterRegistry.get("remote.stale.served").tag("data", "project-statuses").counter().count())
+                .isEqualTo(1);
+
+        assertThat(statusCache.getStatuses(10L, 5L, "USER")).containsExactly(todo);
+    }
+
+    @Test
+    void project_service_indisponible_sans_valeur_connue_echoue_aussitot() {
+        ServiceUnavailableException failure = unavailable();
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenThrow(failure);
+
+        assertThatThrownBy(() -> statusCache.getStatuses(10L, 5L, "USER")).isSameAs(failure);
+    }
+
+    @Test
+    void project_service_indisponible_sert_la_derniere_decision_d_acces_connue() {
+        ProjectAccessCache accessCache = new ProjectAccessCache(projectServiceClient, statusCache, lastKnown,
+                meterRegistry, 30, 100);
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER"))
+                .thenReturn(context(1L, todo))
+                .thenThrow(unavailable());
+        when(projectServiceClient.getProjectContext(10L, 6L, "USER")).thenThrow(unavailable());
+
+        accessCache.getAccess(10L, 5L, "USER");
+        accessCache.invalidate(10L, null);
+
+        assertThat(accessCache.getAccess(10L, 5L, "USER").isGranted()).isTrue();
+        assertThat(meterRegistry.get("remote.stale.served").tag("data", "project-access").counter().count())
+                .isEqualTo(1);
+        assertThatThrownBy(() -> accessCache.getAccess(10L, 6L, "USER"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void getStatusesForProjects_indisponible_complete_avec_les_derniers_statuts_connus() {
+        StatusDTO other = StatusDTO.builder().id(3L).name("To Do").projectId(20L).position(0).build();
+        when(projectServiceClient.getStatusesForProjects(List.of(20L), 5L, "USER"))
+                .thenReturn(Map.of(20L, List.of(other)))
+                .thenThrow(unavailable());
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER")).thenReturn(context(1L, todo, done));
+
+        statusCache.getStatusesForProjects(Set.of(20L), 5L, "USER", projectId -> true);
+        statusCache.invalidate(20L);
+        statusCache.getStatuses(10L, 5L, "USER");
+        Map<Long, List<StatusDTO>> statuses = statusCache.getStatusesForProjects(Set.of(10L, 20L), 5L, "USER", projectId -> true);
+
+        assertThat(statuses.get(10L)).containsExactly(todo, done);
+        assertThat(statuses.get(20L)).containsExactly(other);
+    }
+
+    @Test
+    void project_service_indisponible_une_ecriture_echoue_sans_valeur_perimee() {
+        ProjectAccessCache accessCache = new ProjectAccessCache(projectServiceClient, statusCache, lastKnown,
+                meterRegistry, 30, 100);
+        ServiceUnavailableException failure = unavailable();
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER"))
+                .thenReturn(context(1L, todo, done))
+                .thenThrow(failure);
+
+        accessCache.getAccess(10L, 5L, "USER");
+        accessCache.invalidate(10L, null);
+        statusCache.invalidate(10L);
+        request("POST");
+
+        assertThatThrownBy(() -> accessCache.getAccess(10L, 5L, "USER")).isSameAs(failure);
+        assertThatThrownBy(() -> statusCache.getStatuses(10L, 5L, "USER")).isSameAs(failure);
+        assertThat(StaleData.current()).isEmpty();
+    }
+
+    @Test
+    void invalidate_des_dernieres_valeurs_connues_empeche_de_les_servir() {
+        ProjectAccessCache accessCache = new ProjectAccessCache(projectServiceClient, statusCache, lastKnown,
+                meterRegistry, 30, 100);
+        ServiceUnavailableException failure = unavailable();
+        when(projectServiceClient.getProjectContext(10L, 5L, "USER"))
+                .thenReturn(context(1L, todo, done))
+                .thenThrow(failure);
+
+        accessCache.getAccess(10L, 5L, "USER");
+        accessCache.invalidate(10L, 5L);
+        statusCache.invalidate(10L);
+        // Membre retiré, statut supprimé
+        lastKnown.invalidate(10L, 5L);
+        lastKnown.invalidate(10L);
+
+        assertThatThrownBy(() -> accessCache.getAccess(10L, 5L, "USER")).isSameAs(failure);
+        assertThatThrownBy(() -> statusCache.getStatuses(10L, 5L, "USER")).isSameAs(failure);
+    }
+
+    private static void request(String method) {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(method, "/api/v1/tasks")));
+    }
+
+    private static ServiceUnavailableException unavailable() {
+        return new ServiceUnavailableException("Project Service is unavailable", new RuntimeException("circuit open"));
+    }
+
+    private ProjectContextDTO context(long version, StatusDTO... statuses) {
+        return ProjectContextDTO.builder()
+                .projectId(10L)
+                .access(ProjectAccessDTO.builder().projectId(10L).userId(5L).accessLevel("MEMBER").granted(true).build())
+                .statuses(List.of(statuses))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.client.AuthServiceClient;
+import com.example.taskservice.dto.AssignedUserDTO;
+import com.example.taskservice.dto.UserChangeDTO;
+import com.example.taskservice.dto.UserDTO;
+import com.example.taskservice.entity.DirectoryUser;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.UserDirectoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDirectoryTest {
+
+    @Mock
+    private UserDirectoryRepository repository;
+
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserDirectory userDirectory;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        userDirectory = new UserDirectory(repository, authServiceClient, new TaskExecutorAdapter(new SyncTaskExecutor()),
+                transactionManager, new SimpleMeterRegistry(), 600, 100);
+    }
+
+    private DirectoryUser stored(Long userId, String firstName) {
+        return DirectoryUser.builder().userId(userId).firstName(firstName).lastName("Martin")
+                .active(true).changedAt(LocalDateTime.of(2024, 5, 1, 10, 0)).build();
+    }
+
+    @Test
+    void getUsers_lit_lannuaire_une_fois_puis_le_cache() {
+        when(repository.findAllById(Set.of(7L, 8L))).thenReturn(List.of(stored(7L, "Alice"), stored(8L, "Bob")));
+
+        userDirectory.getUsers(Set.of(7L, 8L));
+        Map<Long, AssignedUserDTO> users = userDirectory.getUsers(List.of(7L, 8L));
+
+        assertThat(users.get(7L).getFirstName()).isEqualTo("Alice");
+        assertThat(users.get(8L).getFirstName()).isEqualTo("Bob");
+        verify(repository, times(1)).findAllById(any());
+        verifyNoInteractions(authServiceClient);
+    }
+
+    @Test
+    void getUsers_demande_les_inconnus_a_auth_service_en_un_appel_et_les_enregistre() {
+        when(repository.findAllById(Set.of(7L, 8L, 9L))).thenReturn(List.of(stored(7L, "Alice")));
+        when(authServiceClient.getUsersByIds(Set.of(8L, 9L))).thenReturn(List.of(
+                UserDTO.builder().id(8L).firstName("Bob").lastName("Durand").avatarUrl("bob.png").isActive(true).build()));
+
+        Map<Long, AssignedUserDTO> users = userDirectory.getUsers(Set.of(7L, 8L, 9L));
+
+        assertThat(users).containsOnlyKeys(7L, 8L);
+        assertThat(users.get(8L).getAvatarUrl()).isEqualTo("bob.png");
+        verify(repository).insertIfAbsent(eq(8L), eq("Bob"), eq("Durand"), eq("bob.png"), eq(true), eq(false), any());
+        // Inconnu d'Auth Service : enregistré comme supprimé pour ne pas le redemander
+        verify(repository).insertIfAbsent(eq(9L), isNull(), isNull(), isNull(), eq(false), eq(true), any());
+
+        userDirectory.getUsers(Set.of(9L));
+        verify(authServiceClient, times(1)).getUsersByIds(any());
+    }
+
+    @Test
+    void getUsers_sans_auth_service_renvoie_les_connus_sans_memoriser_les_autres() {
+        when(repository.findAllById(any())).thenReturn(List.of());
+        when(authServiceClient.getUsersByIds(any()))
+                .thenThrow(new ServiceUnavailableException("Auth Service is unavailable", null));
+
+        assertThat(userDirectory.getUsers(Set.of(8L))).isEmpty();
+        assertThat(userDirectory.getUsers(Set.of(8L))).isEmpty();
+
+        verify(authServiceClient, times(2)).getUsersByIds(any());
+        verify(repository, never()).insertIfAbsent(any(), any(), any(), any(), anyBoolean(), anyBoolean(), any());
+    }
+
+    @Test
+    void applyChange_ecrit_le_changement_et_invalide_le_cache() {
+        when(repository.findAllById(Set.of(7L)))
+                .thenReturn(List.of(stored(7L, "Alice")))
+                .thenReturn(List.of(stored(7L, "Alicia")));
+        userDirectory.getUsers(Set.of(7L));
+
+        LocalDateTime changedAt = LocalDateTime.of(2024, 5, 2, 9, 0);
+        when(repository.applyChange(7L, "Alicia", "Martin", null, true, false, changedAt)).thenReturn(1);
+        boolean applied = userDirectory.applyChange(UserChangeDTO.builder()
+                .userId(7L).firstName("Alicia").lastName("Martin").active(true).changedAt(changedAt).build());
+
+        assertThat(applied).isTrue();
+
+        verify(repository).applyChange(7L, "Alicia", "Martin", null, true, false, changedAt);
+        assertThat(userDirectory.getUsers(Set.of(7L)).get(7L).getFirstName()).isEqualTo("Alicia");
+    }
+
+    @Test
+    void applyChange_ignore_un_changement_plus_ancien() {
+        LocalDateTime changedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        when(repository.applyChange(7L, "Alice", "Martin", null, true, false, changedAt)).thenReturn(0);
+
+        boolean applied = userDirectory.applyChange(UserChangeDTO.builder()
+                .userId(7L).firstName("Alice").lastName("Martin").active(true).changedAt(changedAt).build());
+
+        assertThat(applied).isFalse();
+    }
+}
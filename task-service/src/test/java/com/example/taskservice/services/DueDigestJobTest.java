@@ -0,0 +1,97 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.dto.DueDigest;
+import com.example.taskservice.dto.DueTaskItem;
+import com.example.taskservice.entity.Priority;
+import com.example.taskservice.repository.TaskCard;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.DueDigestJob;
+import com.example.taskservice.service.DueDigestSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DueDigestJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 10);
+    private static final LocalDate HORIZON = LocalDate.of(2024, 5, 14);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final List<List<DueDigest>> sent = new ArrayList<>();
+
+    private DueDigestJob job;
+
+    @BeforeEach
+    void setUp() {
+        DueDigestSink sink = sent::add;
+        job = new DueDigestJob(taskRepository, sink, 3, 2, 1);
+    }
+
+    private TaskCard card(Long id, Long assignedTo, LocalDate dueDate) {
+        return new TaskCard(id, "Task " + id, 1L, Priority.MEDIUM, dueDate, 10L, assignedTo, id, null, null, 0L, null);
+    }
+
+    @Test
+    void sendDigests_groupe_par_utilisateur_meme_a_cheval_sur_deux_lots() {
+        TaskCard overdue = card(100L, 5L, TODAY.minusDays(2));
+        TaskCard dueToday = card(101L, 5L, TODAY);
+        TaskCard dueSoon = card(102L, 5L, TODAY.plusDays(3));
+        TaskCard otherUser = card(103L, 6L, TODAY.plusDays(1));
+        when(taskRepository.findOpenAssignedCardsDueBefore(eq(HORIZON), eq(0L), eq(TODAY), eq(0L), any()))
+                .thenReturn(List.of(overdue, dueToday));
+        when(taskRepository.findOpenAssignedCardsDueBefore(HORIZON, 5L, TODAY, 101L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(dueSoon, otherUser));
+        when(taskRepository.findOpenAssignedCardsDueBefore(HORIZON, 6L, TODAY.plusDays(1), 103L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+
+        int count = job.sendDigests(TODAY);
+
+        assertThat(count).isEqualTo(2);
+        // Un envoi par lot de résumés complets, jamais par tâche
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0)).extracting(DueDigest::getUserId, DueDigest::getOverdueCount, DueDigest::getDueSoonCount)
+                .containsExactly(tuple(5L, 1, 2));
+        assertThat(sent.get(1)).extracting(DueDigest::getUserId, DueDigest::getOverdueCount, DueDigest::getDueSoonCount)
+                .containsExactly(tuple(6L, 0, 1));
+    }
+
+    @Test
+    void sendDigests_tronque_les_listes_mais_garde_les_compteurs() {
+        when(taskRepository.findOpenAssignedCardsDueBefore(eq(HORIZON), eq(0L), eq(TODAY), eq(0L), any()))
+                .thenReturn(List.of(card(100L, 5L, TODAY.minusDays(3)), card(101L, 5L, TODAY.minusDays(1))));
+        when(taskRepository.findOpenAssignedCardsDueBefore(HORIZON, 5L, TODAY.minusDays(1), 101L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(card(102L, 5L, TODAY.minusDays(1))));
+
+        job.sendDigests(TODAY);
+
+        DueDigest digest = sent.get(0).get(0);
+        assertThat(digest.getOverdueCount()).isEqualTo(3);
+        assertThat(digest.getOverdue()).extracting(DueTaskItem::getId).containsExactly(100L);
+        assertThat(digest.getDueSoon()).isEmpty();
+    }
+
+    @Test
+    void sendDigests_sans_echeance_nenvoie_rien() {
+        when(taskRepository.findOpenAssignedCardsDueBefore(any(), anyLong(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+
+        assertThat(job.sendDigests(TODAY)).isZero();
+        assertThat(sent).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.dto.ProjectCleanupResponse;
+import com.example.taskservice.entity.JobState;
+import com.example.taskservice.entity.ProjectCleanup;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.repository.ProjectCleanupRepository;
+import com.example.taskservice.repository.TaskCounterRepository;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.ProjectCleanupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectCleanupServiceTest {
+
+    @Mock
+    private ProjectCleanupRepository cleanupRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCounterRepository counterRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectCleanupService cleanupService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        cleanupService = new ProjectCleanupService(cleanupRepository, taskRepository, counterRepository,
+                eventPublisher, transactionManager, 2, 0);
+    }
+
+    private ProjectCleanup cleanup(JobState state) {
+        ProjectCleanup cleanup = new ProjectCleanup();
+        cleanup.setProjectId(10L);
+        cleanup.setState(state);
+        return cleanup;
+    }
+
+    @Test
+    void requestCleanup_relance_un_nettoyage_en_echec() {
+        ProjectCleanup failed = cleanup(JobState.FAILED);
+        failed.setLastError("timeout");
+        when(cleanupRepository.findForUpdate(10L)).thenReturn(Optional.of(failed));
+        when(cleanupRepository.save(failed)).thenReturn(failed);
+
+        ProjectCleanupResponse response = cleanupService.requestCleanup(10L);
+
+        assertThat(response.getState()).isEqualTo(JobState.PENDING);
+        assertThat(response.getLastError()).isNull();
+    }
+
+    @Test
+    void processPendingCleanups_supprime_par_lots_puis_les_compteurs() {
+        ProjectCleanup cleanup = cleanup(JobState.PENDING);
+        when(cleanupRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(cleanup));
+        when(cleanupRepository.findForUpdate(10L)).thenReturn(Optional.of(cleanup));
+        when(taskRepository.findIdsByProjectId(10L, 2))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(taskRepository.deleteByIdIn(anyCollection())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        cleanupService.processPendingCleanups();
+
+        InOrder inOrder = inOrder(taskRepository, counterRepository);
+        inOrder.verify(taskRepository).deleteByIdIn(List.of(1L, 2L));
+        inOrder.verify(taskRepository).deleteByIdIn(List.of(3L));
+        inOrder.verify(counterRepository).deleteByProjectId(10L);
+        assertThat(cleanup.getState()).isEqualTo(JobState.COMPLETED);
+        assertThat(cleanup.getDeletedTasks()).isEqualTo(3L);
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(10L));
+    }
+
+    @Test
+    void processPendingCleanups_ignore_un_nettoyage_deja_termine_par_une_autre_instance() {
+        ProjectCleanup pending = cleanup(JobState.PENDING);
+        when(cleanupRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(pending));
+        when(cleanupRepository.findForUpdate(10L)).thenReturn(Optional.of(cleanup(JobState.COMPLETED)));
+
+        cleanupService.processPendingCleanups();
+
+        verifyNoInteractions(taskRepository, counterRepository);
+    }
+}
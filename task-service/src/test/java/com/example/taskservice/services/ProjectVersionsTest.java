@@ -0,0 +1,49 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.repository.ProjectVersionRepository;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.ProjectVersions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectVersionsTest {
+
+    @Mock
+    private ProjectVersionRepository versionRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private ProjectVersions projectVersions;
+
+    @Test
+    void bumpProjectsAssignedTo_invalide_les_etag_des_projets_de_lassigne() {
+        when(taskRepository.findProjectIdsByAssignedTo(7L)).thenReturn(List.of(10L, 20L));
+
+        projectVersions.bumpProjectsAssignedTo(7L);
+
+        InOrder inOrder = inOrder(versionRepository);
+        inOrder.verify(versionRepository).increment(10L);
+        inOrder.verify(versionRepository).increment(20L);
+        verifyNoMoreInteractions(versionRepository);
+    }
+
+    @Test
+    void bumpProjectsAssignedTo_sans_tache_assignee_ne_change_rien() {
+        when(taskRepository.findProjectIdsByAssignedTo(7L)).thenReturn(List.of());
+
+        projectVersions.bumpProjectsAssignedTo(7L);
+
+        verifyNoInteractions(versionRepository);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.exception.ResourceNotFoundException;
+import com.example.taskservice.service.RemoteLookups;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RemoteLookupsTest {
+
+    private final RemoteLookups remoteLookups = new RemoteLookups(new SimpleAsyncTaskExecutor(), 1000);
+
+    @Test
+    void join_attend_la_plus_lente_et_non_la_somme() {
+        long start = System.nanoTime();
+        Supplier<String> first;
+        Supplier<String> second;
+        try (RemoteLookups.Scope lookups = remoteLookups.open()) {
+            first = lookups.fork(() -> sleepThen(300, "access"));
+            second = lookups.fork(() -> sleepThen(300, "status"));
+            lookups.join();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(first.get()).isEqualTo("access");
+        assertThat(second.get()).isEqualTo("status");
+        assertThat(elapsedMs).isLessThan(550);
+    }
+
+    @Test
+    void premier_echec_relance_l_exception_d_origine_et_annule_les_autres() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> {
+            try (RemoteLookups.Scope lookups = remoteLookups.open()) {
+                lookups.fork(() -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                });
+                lookups.fork(() -> {
+                    // Échouer une fois l'autre vérification en cours, sinon elle est annulée avant de démarrer
+                    started.await(1, TimeUnit.SECONDS);
+                    throw new ResourceNotFoundException("Status not found");
+                });
+                lookups.join();
+            }
+        }).isInstanceOf(ResourceNotFoundException.class).hasMessage("Status not found");
+
+        assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void delai_global_depasse_donne_une_bad_request() {
+        RemoteLookups shortTimeout = new RemoteLookups(new SimpleAsyncTaskExecutor(), 100);
+
+        assertThatThrownBy(() -> {
+            try (RemoteLookups.Scope lookups = shortTimeout.open()) {
+                lookups.fork(() -> sleepThen(5_000, "late"));
+                lookups.join();
+            }
+        }).isInstanceOf(ServiceUnavailableException.class).hasMessage("Project Service did not answer in time");
+    }
+
+    @Test
+    void lire_un_resultat_avant_join_est_refuse() {
+        try (RemoteLookups.Scope lookups = remoteLookups.open()) {
+            Supplier<String> result = lookups.fork(() -> "status");
+
+            assertThatThrownBy(result::get).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static String sleepThen(long millis, String value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.cache.ProjectStatusCache;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.dto.StatusMigrationResponse;
+import com.example.taskservice.entity.JobState;
+import com.example.taskservice.entity.StatusMigration;
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.StatusMigrationRepository;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.StatusMigrationService;
+import com.example.taskservice.service.TaskCounters;
+import com.example.taskservice.service.TaskRanking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatusMigrationServiceTest {
+
+    @Mock
+    private StatusMigrationRepository migrationRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskRanking taskRanking;
+
+    @Mock
+    private TaskCounters taskCounters;
+
+    @Mock
+    private ProjectStatusCache statusCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatusMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        migrationService = new StatusMigrationService(migrationRepository, taskRepository, taskRanking, taskCounters,
+                statusCache, eventPublisher, transactionManager, 2, 0);
+    }
+
+    private StatusMigration migration(Long statusId, Long targetStatusId, JobState state) {
+        StatusMigration migration = new StatusMigration();
+        migration.setStatusId(statusId);
+        migration.setProjectId(10L);
+        migration.setTargetStatusId(targetStatusId);
+        migration.setState(state);
+        return migration;
+    }
+
+    private StatusDTO status(Long id, String name) {
+        return StatusDTO.builder().id(id).name(name).projectId(10L).build();
+    }
+
+    private Task task(Long id, Long statusId, long rank) {
+        Task task = new Task();
+        task.setId(id);
+        task.setProjectId(10L);
+        task.setStatusId(statusId);
+        task.setRank(rank);
+        return task;
+    }
+
+    @Test
+    void requestMigration_enregistre_une_migration_en_attente() {
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.empty());
+        when(taskRepository.countByStatusId(3L)).thenReturn(5L);
+        when(migrationRepository.save(any(StatusMigration.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StatusMigrationResponse response = migrationService.requestMigration(10L, 3L, 1L);
+
+        assertThat(response.getState()).isEqualTo(JobState.PENDING);
+        assertThat(response.getTargetStatusId()).isEqualTo(1L);
+        assertThat(response.getTotalTasks()).isEqualTo(5L);
+        verifyNoInteractions(taskCounters);
+    }
+
+    @Test
+    void requestMigration_ignore_une_notification_repetee() {
+        StatusMigration running = migration(3L, 1L, JobState.RUNNING);
+        running.setMovedTasks(500L);
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.of(running));
+
+        StatusMigrationResponse response = migrationService.requestMigration(10L, 3L, 1L);
+
+        assertThat(response.getState()).isEqualTo(JobState.RUNNING);
+        assertThat(response.getMovedTasks()).isEqualTo(500L);
+        verify(migrationRepository, never()).save(any());
+    }
+
+    @Test
+    void processPendingMigrations_deplace_par_lots_a_la_fin_de_la_colonne_cible() {
+        StatusMigration migration = migration(3L, 1L, JobState.PENDING);
+        when(migrationRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(migration));
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.of(migration));
+        when(migrationRepository.findById(1L)).thenReturn(Optional.empty());
+        Task a = task(100L, 3L, 65536L);
+        Task b = task(101L, 3L, 131072L);
+        Task c = task(102L, 3L, 196608L);
+        when(taskRepository.findByStatusIdOrderByRankAscIdAsc(3L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(a, b), List.of(c), List.of());
+        when(taskRanking.rankForAppend(1L)).thenReturn(655360L, 786432L);
+        when(statusCache.getStatusesInternal(10L)).thenReturn(List.of(status(1L, "To Do")));
+
+        migrationService.processPendingMigrations();
+
+        assertThat(List.of(a, b, c)).extracting(Task::getStatusId).containsOnly(1L);
+        assertThat(List.of(a, b, c)).extracting(Task::getRank).containsExactly(655360L, 720896L, 786432L);
+        assertThat(migration.getState()).isEqualTo(JobState.COMPLETED);
+        assertThat(migration.getMovedTasks()).isEqualTo(3L);
+        assertThat(migration.getCompletedAt()).isNotNull();
+        verify(taskCounters).tasksMoved(Map.of(
+                100L, new TaskCounterId(10L, 3L, TaskCounterId.UNASSIGNED),
+                101L, new TaskCounterId(10L, 3L, TaskCounterId.UNASSIGNED)), List.of(a, b));
+        verify(eventPublisher, times(2)).publishEvent(new TasksChangedEvent(10L));
+    }
+
+    @Test
+    void processPendingMigrations_suit_la_migration_du_statut_cible_supprime() {
+        StatusMigration migration = migration(3L, 2L, JobState.RUNNING);
+        when(migrationRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(migration));
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.of(migration));
+        when(migrationRepository.findById(2L)).thenReturn(Optional.of(migration(2L, 1L, JobState.COMPLETED)));
+        when(migrationRepository.findById(1L)).thenReturn(Optional.empty());
+        Task a = task(100L, 3L, 65536L);
+        when(taskRepository.findByStatusIdOrderByRankAscIdAsc(eq(3L), any()))
+                .thenReturn(List.of(a), List.of());
+        when(taskRanking.rankForAppend(1L)).thenReturn(65536L);
+        when(statusCache.getStatusesInternal(10L)).thenReturn(List.of(status(1L, "To Do")));
+
+        migrationService.processPendingMigrations();
+
+        assertThat(a.getStatusId()).isEqualTo(1L);
+        assertThat(migration.getTargetStatusId()).isEqualTo(1L);
+        assertThat(migration.getState()).isEqualTo(JobState.COMPLETED);
+    }
+
+    @Test
+    void processPendingMigrations_marque_la_migration_en_echec() {
+        StatusMigration migration = migration(3L, 1L, JobState.RUNNING);
+        when(migrationRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(migration));
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.of(migration));
+        when(migrationRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findByStatusIdOrderByRankAscIdAsc(eq(3L), any())).thenThrow(new IllegalStateException("boom"));
+        when(migrationRepository.findById(3L)).thenReturn(Optional.of(migration));
+
+        migrationService.processPendingMigrations();
+
+        assertThat(migration.getState()).isEqualTo(JobState.FAILED);
+        assertThat(migration.getLastError()).isEqualTo("boom");
+    }
+
+    @Test
+    void processPendingMigrations_met_a_jour_la_date_de_fin_selon_la_colonne_cible() {
+        StatusMigration migration = migration(3L, 2L, JobState.PENDING);
+        when(migrationRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(migration));
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.of(migration));
+        when(migrationRepository.findById(2L)).thenReturn(Optional.empty());
+        LocalDateTime doneAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        Task open = task(100L, 3L, 65536L);
+        Task alreadyDone = task(101L, 3L, 131072L);
+        alreadyDone.setCompletedAt(doneAt);
+        when(taskRepository.findByStatusIdOrderByRankAscIdAsc(eq(3L), any()))
+                .thenReturn(List.of(open, alreadyDone), List.of());
+        when(taskRanking.rankForAppend(2L)).thenReturn(65536L);
+        when(statusCache.getStatusesInternal(10L)).thenReturn(List.of(status(1L, "To Do"), status(2L, "Done")));
+
+        migrationService.processPendingMigrations();
+
+        assertThat(open.getCompletedAt()).isNotNull();
+        assertThat(alreadyDone.getCompletedAt()).isEqualTo(doneAt);
+        assertThat(migration.getState()).isEqualTo(JobState.COMPLETED);
+    }
+
+    @Test
+    void processPendingMigrations_sans_project_service_reessaie_plus_tard() {
+        StatusMigration migration = migration(3L, 1L, JobState.RUNNING);
+        when(migrationRepository.findByStateInOrderByCreatedAtAsc(anyCollection())).thenReturn(List.of(migration));
+        when(migrationRepository.findForUpdate(3L)).thenReturn(Optional.of(migration));
+        when(migrationRepository.findById(1L)).thenReturn(Optional.empty());
+        Task a = task(100L, 3L, 65536L);
+        when(taskRepository.findByStatusIdOrderByRankAscIdAsc(eq(3L), any())).thenReturn(List.of(a));
+        when(statusCache.getStatusesInternal(10L))
+                .thenThrow(new ServiceUnavailableException("Project Service is unavailable", null));
+
+        migrationService.processPendingMigrations();
+
+        assertThat(migration.getState()).isEqualTo(JobState.RUNNING);
+        assertThat(a.getStatusId()).isEqualTo(3L);
+        verifyNoInteractions(taskCounters);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.entity.DataBackfill;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.DataBackfillRepository;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.TaskCompletionBackfill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCompletionBackfillTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private DataBackfillRepository backfillRepository;
+
+    @Mock
+    private ProjectServiceClient projectServiceClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCompletionBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        backfill = new TaskCompletionBackfill(taskRepository, backfillRepository, projectServiceClient,
+                eventPublisher, transactionManager, 2);
+    }
+
+    private StatusDTO status(Long id, Long projectId, String name) {
+        return StatusDTO.builder().id(id).name(name).projectId(projectId).build();
+    }
+
+    @Test
+    void backfill_ferme_les_taches_des_colonnes_done_par_lots_puis_ne_se_relance_plus() {
+        when(taskRepository.findProjectIdsWithOpenTasks(0L, 2)).thenReturn(List.of(10L, 20L));
+        when(taskRepository.findProjectIdsWithOpenTasks(20L, 2)).thenReturn(List.of(30L));
+        when(projectServiceClient.getStatusesForProjectsInternal(List.of(10L, 20L))).thenReturn(Map.of(
+                10L, List.of(status(1L, 10L, "To Do"), status(2L, 10L, "Done")),
+                20L, List.of(status(3L, 20L, "To Do"))));
+        when(projectServiceClient.getStatusesForProjectsInternal(List.of(30L)))
+                .thenReturn(Map.of(30L, List.of(status(4L, 30L, "In Progress"))));
+        when(taskRepository.backfillCompletedAt(List.of(2L))).thenReturn(5);
+
+        backfill.backfillIfNeeded();
+        backfill.backfillIfNeeded();
+
+        verify(taskRepository).backfillCompletedAt(List.of(2L));
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(10L));
+        verify(backfillRepository).save(any(DataBackfill.class));
+        // Terminé : ni relu ni relancé
+        verify(backfillRepository, times(1)).existsById(any());
+        verify(taskRepository, times(2)).findProjectIdsWithOpenTasks(any(), anyInt());
+    }
+
+    @Test
+    void backfill_sans_project_service_est_relance_au_passage_suivant() {
+        when(taskRepository.findProjectIdsWithOpenTasks(0L, 2)).thenReturn(List.of(10L));
+        when(projectServiceClient.getStatusesForProjectsInternal(List.of(10L)))
+                .thenThrow(new ServiceUnavailableException("Project Service is unavailable", null))
+                .thenReturn(Map.of(10L, List.of(status(2L, 10L, "Done"))));
+
+        backfill.backfillIfNeeded();
+        verify(backfillRepository, never()).save(any());
+
+        backfill.backfillIfNeeded();
+        verify(taskRepository).backfillCompletedAt(List.of(2L));
+        verify(backfillRepository).save(any(DataBackfill.class));
+    }
+
+    @Test
+    void backfill_deja_termine_ne_fait_rien() {
+        when(backfillRepository.existsById("tasks-completed-at")).thenReturn(true);
+
+        backfill.backfillIfNeeded();
+
+        verifyNoInteractions(taskRepository, projectServiceClient);
+    }
+}
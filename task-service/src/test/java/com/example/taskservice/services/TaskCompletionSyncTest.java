@@ -0,0 +1,102 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.StatusDTO;
+import com.example.taskservice.entity.CompletionSync;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.exception.ServiceUnavailableException;
+import com.example.taskservice.repository.CompletionSyncRepository;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.TaskCompletionSync;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCompletionSyncTest {
+
+    @Mock
+    private CompletionSyncRepository syncRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectServiceClient projectServiceClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCompletionSync completionSync;
+
+    private final LocalDateTime requestedAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        completionSync = new TaskCompletionSync(syncRepository, taskRepository, projectServiceClient,
+                eventPublisher, transactionManager, 2);
+    }
+
+    private StatusDTO status(Long id, String name) {
+        return StatusDTO.builder().id(id).name(name).projectId(10L).build();
+    }
+
+    @Test
+    void sync_ferme_les_colonnes_done_et_rouvre_les_autres_par_lots() {
+        when(syncRepository.findAllByOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(new CompletionSync(10L, requestedAt)));
+        // "Done" renommé en "Livré", "Review" renommé en "Done"
+        when(projectServiceClient.getStatusesForProjectsInternal(List.of(10L)))
+                .thenReturn(Map.of(10L, List.of(status(1L, "To Do"), status(2L, "Livré"), status(3L, "Done"))));
+        when(taskRepository.closeOpenTasks(eq(List.of(3L)), any(), eq(2))).thenReturn(2, 1);
+        when(taskRepository.reopenCompletedTasks(List.of(1L, 2L), 2)).thenReturn(1);
+
+        completionSync.processPendingSyncs();
+
+        verify(taskRepository, times(2)).closeOpenTasks(eq(List.of(3L)), any(), eq(2));
+        verify(eventPublisher, times(3)).publishEvent(new TasksChangedEvent(10L));
+        verify(syncRepository).deleteIfUnchanged(10L, requestedAt);
+    }
+
+    @Test
+    void sync_sans_project_service_garde_la_demande() {
+        when(syncRepository.findAllByOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(new CompletionSync(10L, requestedAt)));
+        when(projectServiceClient.getStatusesForProjectsInternal(List.of(10L)))
+                .thenThrow(new ServiceUnavailableException("Project Service is unavailable", null));
+
+        completionSync.processPendingSyncs();
+
+        verifyNoInteractions(taskRepository);
+        verify(syncRepository, never()).deleteIfUnchanged(any(), any());
+    }
+
+    @Test
+    void sync_dun_projet_supprime_retire_la_demande_sans_modifier_de_tache() {
+        when(syncRepository.findAllByOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(new CompletionSync(10L, requestedAt)));
+        when(projectServiceClient.getStatusesForProjectsInternal(List.of(10L))).thenReturn(Map.of());
+
+        completionSync.processPendingSyncs();
+
+        verifyNoInteractions(taskRepository, eventPublisher);
+        verify(syncRepository).deleteIfUnchanged(10L, requestedAt);
+    }
+}
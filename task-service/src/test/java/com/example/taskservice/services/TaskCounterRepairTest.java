@@ -0,0 +1,95 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.dto.CounterDrift;
+import com.example.taskservice.dto.CounterRepairReport;
+import com.example.taskservice.entity.TaskCounter;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.event.TasksChangedEvent;
+import com.example.taskservice.repository.CounterKeyCount;
+import com.example.taskservice.repository.TaskCounterRepository;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.TaskCounterRepair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCounterRepairTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCounterRepository counterRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCounterRepair counterRepair;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        counterRepair = new TaskCounterRepair(taskRepository, counterRepository, eventPublisher, transactionManager);
+    }
+
+    private CounterKeyCount actual(Long statusId, Long assignedTo, long count) {
+        CounterKeyCount keyCount = mock(CounterKeyCount.class);
+        when(keyCount.getProjectId()).thenReturn(10L);
+        when(keyCount.getStatusId()).thenReturn(statusId);
+        when(keyCount.getAssignedTo()).thenReturn(assignedTo);
+        when(keyCount.getTaskCount()).thenReturn(count);
+        return keyCount;
+    }
+
+    @Test
+    void repair_sans_ecart_ne_modifie_rien() {
+        CounterKeyCount todo = actual(1L, 0L, 3L);
+        when(taskRepository.countTasksByCounterKey()).thenReturn(List.of(todo));
+        when(counterRepository.findAll()).thenReturn(List.of(new TaskCounter(new TaskCounterId(10L, 1L, 0L), 3L)));
+
+        CounterRepairReport report = counterRepair.repair();
+
+        assertThat(report.getCheckedCounters()).isEqualTo(1);
+        assertThat(report.getDrifts()).isEmpty();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void repair_corrige_et_signale_les_ecarts() {
+        CounterKeyCount todo = actual(1L, 0L, 3L);
+        CounterKeyCount done = actual(2L, 7L, 1L);
+        when(taskRepository.countTasksByCounterKey()).thenReturn(List.of(todo, done));
+        TaskCounter wrong = new TaskCounter(new TaskCounterId(10L, 1L, 0L), 5L);
+        TaskCounter stale = new TaskCounter(new TaskCounterId(10L, 3L, 0L), 2L);
+        when(counterRepository.findAll()).thenReturn(List.of(wrong, stale));
+
+        CounterRepairReport report = counterRepair.repair();
+
+        assertThat(report.getCheckedCounters()).isEqualTo(3);
+        assertThat(report.getDrifts()).extracting(CounterDrift::getStatusId, CounterDrift::getStoredCount, CounterDrift::getActualCount)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 5L, 3L),
+                        tuple(3L, 2L, 0L),
+                        tuple(2L, 0L, 1L));
+        assertThat(wrong.getTaskCount()).isEqualTo(3L);
+        verify(counterRepository).deleteAll(List.of(stale));
+        verify(counterRepository).saveAll(List.of(new TaskCounter(new TaskCounterId(10L, 2L, 7L), 1L)));
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(10L));
+    }
+}
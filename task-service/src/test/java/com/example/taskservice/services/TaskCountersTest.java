@@ -0,0 +1,80 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.repository.TaskCounterRepository;
+import com.example.taskservice.service.TaskCounters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCountersTest {
+
+    @Mock
+    private TaskCounterRepository counterRepository;
+
+    @InjectMocks
+    private TaskCounters taskCounters;
+
+    private Task task(Long id, Long statusId, Long assignedTo) {
+        Task task = new Task();
+        task.setId(id);
+        task.setProjectId(10L);
+        task.setStatusId(statusId);
+        task.setAssignedTo(assignedTo);
+        return task;
+    }
+
+    @Test
+    void tasksAdded_ecrit_une_fois_par_cle() {
+        taskCounters.tasksAdded(List.of(task(1L, 1L, null), task(2L, 1L, null), task(3L, 2L, 7L)));
+
+        verify(counterRepository).increment(10L, 1L, TaskCounterId.UNASSIGNED, 2L);
+        verify(counterRepository).increment(10L, 2L, 7L, 1L);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    void taskRemoved_decremente_le_compteur() {
+        taskCounters.taskRemoved(task(1L, 2L, 7L));
+
+        verify(counterRepository).increment(10L, 2L, 7L, -1L);
+    }
+
+    @Test
+    void taskMoved_sans_changement_de_cle_necrit_rien() {
+        Task task = task(1L, 1L, 7L);
+
+        taskCounters.taskMoved(new TaskCounterId(10L, 1L, 7L), task);
+
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    void tasksMoved_compense_les_echanges_et_ecrit_dans_lordre_des_cles() {
+        // 1 : colonne 2 -> 1, 2 : colonne 1 -> 2, 3 : colonne 1 -> 3 (assigné 7)
+        Task first = task(1L, 1L, 7L);
+        Task second = task(2L, 2L, 7L);
+        Task third = task(3L, 3L, 7L);
+
+        taskCounters.tasksMoved(Map.of(
+                1L, new TaskCounterId(10L, 2L, 7L),
+                2L, new TaskCounterId(10L, 1L, 7L),
+                3L, new TaskCounterId(10L, 1L, 7L)), List.of(first, second, third));
+
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).increment(10L, 1L, 7L, -1L);
+        inOrder.verify(counterRepository).increment(10L, 3L, 7L, 1L);
+        verify(counterRepository, never()).increment(anyLong(), eq(2L), anyLong(), anyLong());
+    }
+}
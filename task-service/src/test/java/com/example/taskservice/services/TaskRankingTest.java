@@ -0,0 +1,169 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.exception.BadRequestException;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.service.TaskRanking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskRankingTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TaskRanking taskRanking;
+
+    @Test
+    void rankForAppend_commence_a_gap_dans_une_colonne_vide() {
+        when(taskRepository.findMaxRankByStatusId(1L)).thenReturn(null);
+
+        assertThat(taskRanking.rankForAppend(1L)).isEqualTo(TaskRanking.GAP);
+    }
+
+    @Test
+    void rankForAppend_ajoute_apres_le_dernier_rank() {
+        when(taskRepository.findMaxRankByStatusId(1L)).thenReturn(3 * TaskRanking.GAP);
+
+        assertThat(taskRanking.rankForAppend(1L)).isEqualTo(4 * TaskRanking.GAP);
+    }
+
+    @Test
+    void rankForAppend_lit_le_dernier_rank_sous_le_verrou_de_la_colonne() {
+        when(taskRepository.findMaxRankByStatusId(1L)).thenReturn(TaskRanking.GAP);
+
+        taskRanking.rankForAppend(1L);
+
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockColumnRanks(1L);
+        inOrder.verify(taskRepository).findMaxRankByStatusId(1L);
+    }
+
+    @Test
+    void rankBetweenTasks_prend_le_milieu_des_voisines() {
+        when(taskRepository.findRankInColumn(200L, 1L)).thenReturn(Optional.of(1000L));
+        when(taskRepository.findRankInColumn(201L, 1L)).thenReturn(Optional.of(2000L));
+
+        assertThat(taskRanking.rankBetweenTasks(1L, 100L, 200L, 201L)).isEqualTo(1500L);
+        verify(taskRepository, never()).rebalanceColumn(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void rankBetweenTasks_reespace_la_colonne_quand_lecart_est_epuise() {
+        when(taskRepository.findRankInColumn(200L, 1L)).thenReturn(Optional.of(1000L), Optional.of(TaskRanking.GAP));
+        when(taskRepository.findRankInColumn(201L, 1L)).thenReturn(Optional.of(1001L), Optional.of(2 * TaskRanking.GAP));
+
+        long rank = taskRanking.rankBetweenTasks(1L, 100L, 200L, 201L);
+
+        verify(taskRepository).rebalanceColumn(1L, 100L, TaskRanking.GAP);
+        assertThat(rank).isEqualTo(TaskRanking.GAP + TaskRanking.GAP / 2);
+    }
+
+    @Test
+    void rankBetweenTasks_lit_les_voisines_sous_le_verrou_de_la_colonne() {
+        when(taskRepository.findRankInColumn(200L, 1L)).thenReturn(Optional.of(1000L));
+
+        taskRanking.rankBetweenTasks(1L, 100L, 200L, null);
+
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockColumnRanks(1L);
+        inOrder.verify(taskRepository).findRankInColumn(200L, 1L);
+    }
+
+    @Test
+    void rebalancePendingColumns_reespace_sous_le_verrou_de_la_colonne() {
+        taskRanking.requestRebalance(1L);
+
+        taskRanking.rebalancePendingColumns();
+
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockColumnRanks(1L);
+        inOrder.verify(taskRepository).rebalanceColumn(1L, -1L, TaskRanking.GAP);
+    }
+
+    @Test
+    void lockColumns_verrouille_dans_lordre_des_ids() {
+        taskRanking.lockColumns(Set.of(3L, 1L, 2L));
+
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockColumnRanks(1L);
+        inOrder.verify(taskRepository).lockColumnRanks(2L);
+        inOrder.verify(taskRepository).lockColumnRanks(3L);
+    }
+
+    @Test
+    void rankBetweenTasks_refuse_une_voisine_dune_autre_colonne() {
+        when(taskRepository.findRankInColumn(200L, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> taskRanking.rankBetweenTasks(1L, 100L, 200L, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rankAtIndex_place_en_haut_de_colonne() {
+        when(taskRepository.findRanksAt(1L, 100L, 0, 1)).thenReturn(List.of(TaskRanking.GAP));
+
+        assertThat(taskRanking.rankAtIndex(1L, 100L, 0)).isEqualTo(TaskRanking.GAP / 2);
+    }
+
+    @Test
+    void rankAtIndex_ajoute_en_fin_si_lindex_depasse_la_colonne() {
+        when(taskRepository.findRanksAt(1L, 100L, 4, 2)).thenReturn(List.of());
+        when(taskRepository.findMaxRankByStatusId(1L)).thenReturn(2 * TaskRanking.GAP);
+
+        assertThat(taskRanking.rankAtIndex(1L, 100L, 5)).isEqualTo(3 * TaskRanking.GAP);
+    }
+
+    @Test
+    void assignRanks_repartit_les_cartes_deplacees_entre_leurs_voisines() {
+        Task first = rankedTask(1L, 1000L);
+        Task movedA = rankedTask(2L, 50L);
+        Task movedB = rankedTask(3L, 60L);
+        Task last = rankedTask(4L, 1300L);
+
+        taskRanking.assignRanks(1L, List.of(first, movedA, movedB, last), Set.of(2L, 3L));
+
+        assertThat(first.getRank()).isEqualTo(1000L);
+        assertThat(movedA.getRank()).isEqualTo(1100L);
+        assertThat(movedB.getRank()).isEqualTo(1200L);
+        assertThat(last.getRank()).isEqualTo(1300L);
+    }
+
+    @Test
+    void assignRanks_reespace_la_colonne_sans_ecart_disponible() {
+        Task first = rankedTask(1L, 1000L);
+        Task moved = rankedTask(2L, 5L);
+        Task last = rankedTask(3L, 1001L);
+
+        taskRanking.assignRanks(1L, List.of(first, moved, last), Set.of(2L));
+
+        assertThat(List.of(first, moved, last)).extracting(Task::getRank)
+                .containsExactly(TaskRanking.GAP, 2 * TaskRanking.GAP, 3 * TaskRanking.GAP);
+    }
+
+    private Task rankedTask(Long id, long rank) {
+        Task task = new Task();
+        task.setId(id);
+        task.setRank(rank);
+        return task;
+    }
+}
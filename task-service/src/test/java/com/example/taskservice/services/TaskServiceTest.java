@@ -0,0 +1,758 @@
+package com.example.taskservice.services;
+
+import com.example.taskservice.cache.ProjectAccessCache;
+import com.example.taskservice.cache.ProjectStatusCache;
+import com.example.taskservice.cache.TaskStatsCache;
+import com.example.taskservice.cache.UserDirectory;
+import com.example.taskservice.client.ProjectServiceClient;
+import com.example.taskservice.dto.*;
+import com.example.taskservice.entity.Priority;
+import com.example.taskservice.entity.Task;
+import com.example.taskservice.entity.TaskCounterId;
+import com.example.taskservice.exception.BadRequestException;
+import com.example.taskservice.exception.ResourceNotFoundException;
+import com.example.taskservice.exception.TaskVersionConflictException;
+import com.example.taskservice.repository.TaskCard;
+import com.example.taskservice.repository.TaskRepository;
+import com.example.taskservice.repository.TaskSearchHit;
+import com.example.taskservice.service.ProjectVersions;
+import com.example.taskservice.service.RemoteLookups;
+import com.example.taskservice.service.StatusMigrationService;
+import com.example.taskservice.service.TaskCounters;
+import com.example.taskservice.service.TaskListCursor;
+import com.example.taskservice.service.TaskRanking;
+import com.example.taskservice.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectServiceClient projectServiceClient;
+
+    @Mock
+    private ProjectStatusCache statusCache;
+
+    @Mock
+    private ProjectAccessCache accessCache;
+
+    @Mock
+    private TaskRanking taskRanking;
+
+    @Mock
+    private TaskStatsCache statsCache;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @Mock
+    private TaskCounters taskCounters;
+
+    @Mock
+    private StatusMigrationService statusMigrationService;
+
+    @Mock
+    private ProjectVersions projectVersions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private RemoteLookups remoteLookups = new RemoteLookups(new SimpleAsyncTaskExecutor(), 1000);
+
+    @InjectMocks
+    private TaskService taskService;
+
+    private StatusDTO todo;
+    private StatusDTO done;
+
+    @BeforeEach
+    void setUp() {
+        todo = StatusDTO.builder().id(1L).name("To Do").projectId(10L).position(0).build();
+        done = StatusDTO.builder().id(2L).name("Done").projectId(10L).position(1).build();
+
+        lenient().when(accessCache.getAccess(eq(10L), anyLong(), anyString()))
+                .thenReturn(ProjectAccessDTO.builder().projectId(10L).accessLevel("MEMBER").granted(true).build());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+                        .doInTransaction(new SimpleTransactionStatus()));
+    }
+
+    private Task task(Long id, Long statusId, long rank) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatusId(statusId);
+        task.setProjectId(10L);
+        task.setPriority(Priority.MEDIUM);
+        task.setRank(rank);
+        return task;
+    }
+
+    private TaskCard card(Long id, Long statusId, long rank) {
+        return card(id, statusId, rank, null);
+    }
+
+    private TaskCard card(Long id, Long statusId, long rank, LocalDateTime createdAt) {
+        return new TaskCard(id, "Task " + id, statusId, Priority.MEDIUM, null, 10L, null, rank, createdAt, createdAt, 0L, null);
+    }
+
+    private TaskCard assignedCard(Long id, Long statusId, long rank, Long assignedTo) {
+        return new TaskCard(id, "Task " + id, statusId, Priority.MEDIUM, null, 10L, assignedTo, rank, null, null, 0L, null);
+    }
+
+    // getBoard
+    @Test
+    void getBoard_regroupe_les_cartes_par_colonne_dans_lordre_des_statuts() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRepository.findBoardCards(10L, 3)).thenReturn(List.of(
+                card(100L, 1L, 0), card(101L, 1L, 1), card(102L, 1L, 2),
+                card(200L, 2L, 0)));
+
+        BoardResponse board = taskService.getBoard(10L, 2, 5L, "USER");
+
+        assertThat(board.getColumns()).hasSize(2);
+        BoardColumnResponse todoColumn = board.getColumns().get(0);
+        assertThat(todoColumn.getStatus()).isEqualTo(todo);
+        assertThat(todoColumn.getTasks()).extracting(TaskResponse::getId).containsExactly(100L, 101L);
+        assertThat(todoColumn.isHasMore()).isTrue();
+        assertThat(todoColumn.getNextCursor()).isNotNull();
+
+        BoardColumnResponse doneColumn = board.getColumns().get(1);
+        assertThat(doneColumn.getTasks()).extracting(TaskResponse::getId).containsExactly(200L);
+        assertThat(doneColumn.isHasMore()).isFalse();
+        assertThat(doneColumn.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getBoard_resout_tous_les_assignes_en_une_recherche() {
+        AssignedUserDTO alice = AssignedUserDTO.builder().id(7L).firstName("Alice").lastName("Martin").build();
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRepository.findBoardCards(10L, 51)).thenReturn(List.of(
+                assignedCard(100L, 1L, 0, 7L), assignedCard(101L, 1L, 1, null),
+                assignedCard(200L, 2L, 0, 7L), assignedCard(201L, 2L, 1, 8L)));
+        when(userDirectory.getUsers(Set.of(7L, 8L))).thenReturn(Map.of(7L, alice));
+
+        BoardResponse board = taskService.getBoard(10L, 50, 5L, "USER");
+
+        assertThat(board.getColumns()).flatExtracting(BoardColumnResponse::getTasks)
+                .extracting(TaskResponse::getId, TaskResponse::getAssignee)
+                .containsExactly(
+                        tuple(100L, alice), tuple(101L, null),
+                        tuple(200L, alice), tuple(201L, null));
+        verify(userDirectory, times(1)).getUsers(any());
+    }
+
+    @Test
+    void getBoard_retourne_les_colonnes_vides() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRepository.findBoardCards(eq(10L), anyInt())).thenReturn(List.of());
+
+        BoardResponse board = taskService.getBoard(10L, 50, 5L, "USER");
+
+        assertThat(board.getColumns()).extracting(BoardColumnResponse::getTasks)
+                .allSatisfy(tasks -> assertThat(tasks).isEmpty());
+    }
+
+    @Test
+    void getBoard_refuse_si_pas_acces_au_projet() {
+        when(accessCache.getAccess(10L, 99L, "USER"))
+                .thenReturn(ProjectAccessDTO.builder().projectId(10L).accessLevel("NONE").granted(false).build());
+
+        assertThatThrownBy(() -> taskService.getBoard(10L, 50, 99L, "USER"))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(taskRepository, never()).findBoardCards(anyLong(), anyInt());
+    }
+
+    @Test
+    void getBoardColumn_reprend_apres_le_curseur() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+        when(taskRepository.findBoardCards(10L, 3)).thenReturn(List.of(
+                card(100L, 1L, 0), card(101L, 1L, 1), card(102L, 1L, 2)));
+        String cursor = taskService.getBoard(10L, 2, 5L, "USER").getColumns().get(0).getNextCursor();
+
+        when(taskRepository.findColumnCardsAfter(eq(10L), eq(1L), eq(1L), eq(101L), any()))
+                .thenReturn(List.of(card(102L, 1L, 2)));
+
+        BoardColumnResponse column = taskService.getBoardColumn(10L, 1L, cursor, 2, 5L, "USER");
+
+        assertThat(column.getTasks()).extracting(TaskResponse::getId).containsExactly(102L);
+        assertThat(column.isHasMore()).isFalse();
+    }
+
+    @Test
+    void getBoardColumn_refuse_un_curseur_invalide() {
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+
+        assertThatThrownBy(() -> taskService.getBoardColumn(10L, 1L, "pas-un-curseur", 2, 5L, "USER"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    // getProjectETag
+    @Test
+    void getProjectETag_renvoie_la_version_sans_lire_les_taches() {
+        when(projectVersions.etag(10L)).thenReturn("\"10-7\"");
+
+        assertThat(taskService.getProjectETag(10L, 5L, "USER")).isEqualTo("\"10-7\"");
+        verifyNoInteractions(taskRepository, projectServiceClient, statusCache);
+    }
+
+    @Test
+    void getProjectETag_refuse_si_pas_acces_au_projet() {
+        when(accessCache.getAccess(10L, 99L, "USER"))
+                .thenReturn(ProjectAccessDTO.builder().projectId(10L).accessLevel("NONE").granted(false).build());
+
+        assertThatThrownBy(() -> taskService.getProjectETag(10L, 99L, "USER"))
+                .isInstanceOf(BadRequestException.class);
+        verify(projectVersions, never()).etag(any());
+    }
+
+    // getTaskById
+    @Test
+    void getTaskById_est_la_seule_lecture_avec_la_description() {
+        Task task = task(100L, 1L, 65536L);
+        task.setDescription("Long description");
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRepository.findBoardCards(10L, 51)).thenReturn(List.of(new TaskCard(
+                100L, "Task 100", 1L, Priority.MEDIUM, null, 10L, null, 65536L, null, null, 0L, "Long desc")));
+
+        assertThat(taskService.getTaskById(100L, 5L, "USER").getDescription()).isEqualTo("Long description");
+        assertThat(taskService.getBoard(10L, 50, 5L, "USER").getColumns().get(0).getTasks())
+                .extracting(TaskResponse::getDescription, TaskResponse::getDescriptionPreview)
+                .containsExactly(tuple(null, "Long desc"));
+    }
+
+    // updateTaskStatus
+    @Test
+    void updateTaskStatus_place_la_carte_entre_ses_voisines() {
+        Task moved = task(100L, 1L, 65536L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(moved));
+        when(statusCache.findStatus(10L, 2L, 5L, "USER")).thenReturn(Optional.of(done));
+        when(taskRanking.rankBetweenTasks(2L, 100L, 200L, 201L)).thenReturn(98304L);
+        when(taskRepository.saveAndFlush(moved)).thenReturn(moved);
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setStatusId(2L);
+        request.setPreviousTaskId(200L);
+        request.setNextTaskId(201L);
+
+        TaskResponse response = taskService.updateTaskStatus(100L, request, null, 5L, "USER");
+
+        assertThat(response.getStatus()).isEqualTo(done);
+        assertThat(response.getPosition()).isEqualTo(98304L);
+        verify(taskRanking, never()).rankAtIndex(anyLong(), anyLong(), anyInt());
+        verify(taskCounters).taskMoved(new TaskCounterId(10L, 1L, TaskCounterId.UNASSIGNED), moved);
+    }
+
+    @Test
+    void updateTaskStatus_marque_la_tache_terminee_puis_la_rouvre() {
+        Task moved = task(100L, 1L, 65536L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(moved));
+        when(statusCache.findStatus(eq(10L), anyLong(), eq(5L), eq("USER")))
+                .thenAnswer(invocation -> Optional.of(invocation.<Long>getArgument(1) == 2L ? done : todo));
+        when(taskRanking.rankAtIndex(anyLong(), eq(100L), anyInt())).thenReturn(65536L);
+        when(taskRepository.saveAndFlush(moved)).thenReturn(moved);
+
+        UpdateTaskStatusRequest toDone = new UpdateTaskStatusRequest();
+        toDone.setStatusId(2L);
+        taskService.updateTaskStatus(100L, toDone, null, 5L, "USER");
+        LocalDateTime completedAt = moved.getCompletedAt();
+        assertThat(completedAt).isNotNull();
+
+        UpdateTaskStatusRequest backToTodo = new UpdateTaskStatusRequest();
+        backToTodo.setStatusId(1L);
+        taskService.updateTaskStatus(100L, backToTodo, null, 5L, "USER");
+        assertThat(moved.getCompletedAt()).isNull();
+    }
+
+    @Test
+    void updateTaskStatus_resout_lassigne_apres_le_commit() {
+        Task moved = task(100L, 1L, 65536L);
+        moved.setAssignedTo(7L);
+        AssignedUserDTO alice = AssignedUserDTO.builder().id(7L).firstName("Alice").lastName("Martin").build();
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(moved));
+        when(statusCache.findStatus(10L, 2L, 5L, "USER")).thenReturn(Optional.of(done));
+        when(taskRanking.rankAtIndex(2L, 100L, 0)).thenReturn(65536L);
+        when(taskRepository.saveAndFlush(moved)).thenReturn(moved);
+        boolean[] inTransaction = {false};
+        doAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus());
+            } finally {
+                inTransaction[0] = false;
+            }
+        }).when(transactionTemplate).execute(any());
+        // Auth Service peut être appelé : jamais pendant que la version du projet est verrouillée
+        when(userDirectory.getUsers(Set.of(7L))).thenAnswer(invocation -> {
+            assertThat(inTransaction[0]).isFalse();
+            return Map.of(7L, alice);
+        });
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setStatusId(2L);
+
+        assertThat(taskService.updateTaskStatus(100L, request, null, 5L, "USER").getAssignee()).isEqualTo(alice);
+    }
+
+    @Test
+    void updateTaskStatus_utilise_lindex_sans_voisines() {
+        Task moved = task(100L, 1L, 65536L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(moved));
+        when(statusCache.findStatus(10L, 2L, 5L, "USER")).thenReturn(Optional.of(done));
+        when(taskRanking.rankAtIndex(2L, 100L, 3)).thenReturn(262144L);
+        when(taskRepository.saveAndFlush(moved)).thenReturn(moved);
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setStatusId(2L);
+        request.setPosition(3);
+
+        TaskResponse response = taskService.updateTaskStatus(100L, request, null, 5L, "USER");
+
+        assertThat(response.getPosition()).isEqualTo(262144L);
+    }
+
+    @Test
+    void updateTaskStatus_refuse_une_version_perimee_avec_412() {
+        Task current = task(100L, 1L, 65536L);
+        current.setVersion(3L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(current));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setStatusId(2L);
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(100L, request, 2L, 5L, "USER"))
+                .isInstanceOfSatisfying(TaskVersionConflictException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+                    assertThat(e.getCurrent().getVersion()).isEqualTo(3L);
+                    assertThat(e.getCurrent().getStatus()).isEqualTo(todo);
+                });
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updateTaskStatus_rejoue_un_simple_changement_de_place_apres_un_conflit() {
+        Task moved = task(100L, 1L, 65536L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(moved));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+        when(taskRanking.rankAtIndex(1L, 100L, 2)).thenReturn(196608L);
+        when(taskRepository.saveAndFlush(moved))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 100L))
+                .thenReturn(moved);
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setStatusId(1L);
+        request.setPosition(2);
+
+        TaskResponse response = taskService.updateTaskStatus(100L, request, null, 5L, "USER");
+
+        assertThat(response.getPosition()).isEqualTo(196608L);
+        verify(taskRepository, times(2)).saveAndFlush(moved);
+    }
+
+    @Test
+    void updateTaskStatus_avec_if_match_renvoie_409_sans_rejouer() {
+        Task moved = task(100L, 1L, 65536L);
+        moved.setVersion(4L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(moved));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+        when(taskRanking.rankAtIndex(1L, 100L, 0)).thenReturn(32768L);
+        when(taskRepository.saveAndFlush(moved)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 100L));
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setStatusId(1L);
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(100L, request, 4L, 5L, "USER"))
+                .isInstanceOfSatisfying(TaskVersionConflictException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        verify(taskRepository, times(1)).saveAndFlush(moved);
+    }
+
+    // updateTask
+    @Test
+    void updateTask_renvoie_409_si_une_ecriture_concurrente_lemporte() {
+        Task task = task(100L, 1L, 65536L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+        when(taskRepository.saveAndFlush(task)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 100L));
+
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Renamed");
+
+        assertThatThrownBy(() -> taskService.updateTask(100L, request, null, 5L, "USER"))
+                .isInstanceOfSatisfying(TaskVersionConflictException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        verify(taskCounters, never()).taskMoved(any(), any());
+    }
+
+    @Test
+    void updateTask_avec_le_formulaire_inchange_garde_la_description() {
+        Task task = task(100L, 1L, 65536L);
+        task.setDescription("Long description");
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
+        when(statusCache.findStatus(10L, 1L, 5L, "USER")).thenReturn(Optional.of(todo));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+
+        // Le formulaire d'édition est pré-rempli depuis la tâche lue par son ID
+        TaskResponse loaded = taskService.getTaskById(100L, 5L, "USER");
+        TaskRequest form = new TaskRequest();
+        form.setTitle(loaded.getTitle());
+        form.setDescription(loaded.getDescription());
+        form.setPriority(loaded.getPriority());
+        form.setStatusId(loaded.getStatus().getId());
+
+        TaskResponse updated = taskService.updateTask(100L, form, null, 5L, "USER");
+
+        assertThat(updated.getDescription()).isEqualTo("Long description");
+        assertThat(task.getDescription()).isEqualTo("Long description");
+    }
+
+    // reorderTasks
+    @Test
+    void reorderTasks_applique_les_deplacements_et_retourne_lordre_des_colonnes() {
+        Task a = task(100L, 1L, 65536L);
+        Task b = task(101L, 1L, 131072L);
+        Task c = task(200L, 2L, 65536L);
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRepository.findAllById(anySet())).thenReturn(List.of(a));
+        when(taskRepository.findByProjectIdAndStatusIdInOrderByRankAscIdAsc(eq(10L), anySet()))
+                .thenReturn(List.of(a, b, c));
+
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .projectId(10L)
+                .moves(List.of(TaskMoveRequest.builder().taskId(100L).statusId(2L).position(1).build()))
+                .build();
+
+        List<ColumnOrderResponse> columns = taskService.reorderTasks(request, 5L, "USER");
+
+        assertThat(columns).extracting(ColumnOrderResponse::getStatusId).containsExactly(1L, 2L);
+        assertThat(columns.get(0).getTaskIds()).containsExactly(101L);
+        assertThat(columns.get(1).getTaskIds()).containsExactly(200L, 100L);
+        assertThat(a.getStatusId()).isEqualTo(2L);
+        verify(taskRanking).assignRanks(eq(2L), eq(List.of(c, a)), eq(Set.of(100L)));
+        verify(taskCounters).tasksMoved(Map.of(100L, new TaskCounterId(10L, 1L, TaskCounterId.UNASSIGNED)), List.of(a));
+        verifyNoInteractions(projectServiceClient);
+    }
+
+    @Test
+    void reorderTasks_refuse_un_statut_dun_autre_projet() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .projectId(10L)
+                .moves(List.of(TaskMoveRequest.builder().taskId(100L).statusId(99L).position(0).build()))
+                .build();
+
+        assertThatThrownBy(() -> taskService.reorderTasks(request, 5L, "USER"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(taskRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void reorderTasks_refuse_une_tache_dun_autre_projet() {
+        Task foreign = task(100L, 1L, 65536L);
+        foreign.setProjectId(11L);
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRepository.findAllById(anySet())).thenReturn(List.of(foreign));
+
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .projectId(10L)
+                .moves(List.of(TaskMoveRequest.builder().taskId(100L).statusId(2L).position(0).build()))
+                .build();
+
+        assertThatThrownBy(() -> taskService.reorderTasks(request, 5L, "USER"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // createTask
+    @Test
+    void createTask_calcule_le_rank_dans_la_transaction_et_resout_lassigne_en_parallele() {
+        AssignedUserDTO alice = AssignedUserDTO.builder().id(7L).firstName("Alice").lastName("Martin").build();
+        when(statusCache.findStatus(10L, 2L, 5L, "USER")).thenReturn(Optional.of(done));
+        when(userDirectory.getUsers(Set.of(7L))).thenReturn(Map.of(7L, alice));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        boolean[] inTransaction = {false};
+        doAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus());
+            } finally {
+                inTransaction[0] = false;
+            }
+        }).when(transactionTemplate).execute(any());
+        // Le dernier rank de la colonne n'est lu que sous son verrou, donc dans la transaction
+        when(taskRanking.rankForAppend(2L)).thenAnswer(invocation -> {
+            assertThat(inTransaction[0]).isTrue();
+            return 131072L;
+        });
+
+        TaskRequest request = new TaskRequest();
+        request.setTitle("New");
+        request.setProjectId(10L);
+        request.setStatusId(2L);
+        request.setAssignedTo(7L);
+
+        TaskResponse created = taskService.createTask(request, 5L, "USER");
+
+        assertThat(created.getPosition()).isEqualTo(131072L);
+        assertThat(created.getAssignee()).isEqualTo(alice);
+        verify(userDirectory, times(1)).getUsers(any());
+    }
+
+    // createTasks
+    @Test
+    void createTasks_valide_une_fois_et_enchaine_les_ranks_par_colonne() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(taskRanking.rankForAppend(1L)).thenReturn(65536L);
+        when(taskRanking.rankForAppend(2L)).thenReturn(131072L);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .projectId(10L)
+                .tasks(List.of(
+                        BulkTaskItem.builder().title("First").build(),
+                        BulkTaskItem.builder().title("Second").statusId(1L).build(),
+                        BulkTaskItem.builder().title("Third").statusId(2L).priority(Priority.HIGH).build()))
+                .build();
+
+        List<TaskResponse> created = taskService.createTasks(request, 5L, "USER");
+
+        assertThat(created).extracting(TaskResponse::getPosition)
+                .containsExactly(65536L, 65536L + TaskRanking.GAP, 131072L);
+        assertThat(created).extracting(TaskResponse::getPriority)
+                .containsExactly(Priority.MEDIUM, Priority.MEDIUM, Priority.HIGH);
+        verify(taskRanking, times(1)).rankForAppend(1L);
+        verify(accessCache, times(1)).getAccess(10L, 5L, "USER");
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void createTasks_refuse_un_statut_hors_projet() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .projectId(10L)
+                .tasks(List.of(BulkTaskItem.builder().title("Orphan").statusId(99L).build()))
+                .build();
+
+        assertThatThrownBy(() -> taskService.createTasks(request, 5L, "USER"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    // getAllTasks
+    @Test
+    void getAllTasks_combine_les_filtres_en_une_requete() {
+        when(taskRepository.findCards(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(card(100L, 1L, 1L))));
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+
+        TaskFilter filter = TaskFilter.builder()
+                .projectId(10L)
+                .statusIds(List.of(1L, 2L))
+                .priorities(List.of(Priority.HIGH, Priority.MEDIUM))
+                .assignedTo(7L)
+                .dueTo(LocalDate.of(2024, 6, 30))
+                .build();
+
+        Page<TaskResponse> page = taskService.getAllTasks(filter, 5L, "USER", PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(TaskResponse::getId).containsExactly(100L);
+        assertThat(page.getContent().get(0).getSnippet()).isNull();
+        verify(taskRepository, times(1)).findCards(any(Specification.class), any(Pageable.class));
+        verify(taskRepository, never()).findSearchHighlights(any(), any());
+    }
+
+    @Test
+    void getAllTasks_avec_search_ajoute_les_extraits_surlignes() {
+        TaskSearchHit hit = hit(101L, "<mark>Deploy</mark> api", "run <mark>deploy</mark> script");
+        when(taskRepository.findCards(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(card(101L, 2L, 2L), card(100L, 1L, 1L))));
+        when(taskRepository.findSearchHighlights(List.of(101L, 100L), "deploy")).thenReturn(List.of(hit));
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+
+        TaskFilter filter = TaskFilter.builder().projectId(10L).search(" deploy ").build();
+        Page<TaskResponse> page = taskService.getAllTasks(filter, 5L, "USER", PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(TaskResponse::getId).containsExactly(101L, 100L);
+        assertThat(page.getContent().get(0).getSnippet()).isEqualTo("run <mark>deploy</mark> script");
+        assertThat(page.getContent().get(0).getHighlightedTitle()).isEqualTo("<mark>Deploy</mark> api");
+        assertThat(page.getContent().get(0).getStatus()).isEqualTo(done);
+        assertThat(page.getContent().get(1).getSnippet()).isNull();
+    }
+
+    @Test
+    void getAllTasks_sans_projet_ni_assigne_est_reserve_aux_admins() {
+        TaskFilter filter = TaskFilter.builder().statusIds(List.of(1L)).build();
+
+        assertThatThrownBy(() -> taskService.getAllTasks(filter, 5L, "USER", PageRequest.of(0, 20)))
+                .isInstanceOf(BadRequestException.class);
+        verify(taskRepository, never()).findCards(any(Specification.class), any(Pageable.class));
+    }
+
+    private TaskSearchHit hit(Long id, String highlightedTitle, String snippet) {
+        TaskSearchHit hit = mock(TaskSearchHit.class);
+        lenient().when(hit.getId()).thenReturn(id);
+        lenient().when(hit.getHighlightedTitle()).thenReturn(highlightedTitle);
+        lenient().when(hit.getSnippet()).thenReturn(snippet);
+        return hit;
+    }
+
+    // getTasksByCursor
+    @Test
+    void getTasksByCursor_renvoie_un_curseur_sans_compter() {
+        TaskCard newest = card(102L, 1L, 3L, LocalDateTime.of(2024, 5, 3, 10, 0));
+        TaskCard middle = card(101L, 1L, 2L, LocalDateTime.of(2024, 5, 2, 10, 0));
+        TaskCard oldest = card(100L, 2L, 1L, LocalDateTime.of(2024, 5, 1, 10, 0));
+        when(taskRepository.findCards(any(Specification.class), any(Sort.class), eq(3))).thenReturn(List.of(newest, middle, oldest));
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+
+        TaskCursorPageResponse page = taskService.getTasksByCursor(
+                TaskFilter.builder().projectId(10L).build(), TaskListSort.CREATED_AT, "", 2, false, 5L, "USER");
+
+        assertThat(page.getContent()).extracting(TaskResponse::getId).containsExactly(102L, 101L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getEstimatedTotal()).isNull();
+        TaskListCursor next = TaskListCursor.decode(page.getNextCursor(), TaskListSort.CREATED_AT);
+        assertThat(next.getId()).isEqualTo(101L);
+        assertThat(next.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 5, 2, 10, 0));
+        verify(taskRepository, never()).count(any(Specification.class));
+        verify(taskRepository, never()).estimateCount(any());
+    }
+
+    @Test
+    void getTasksByCursor_renvoie_une_estimation_si_demandee() {
+        when(taskRepository.findCards(any(Specification.class), any(Sort.class), anyInt())).thenReturn(List.of());
+        TaskFilter filter = TaskFilter.builder().assignedTo(5L).build();
+        when(taskRepository.estimateCount(filter)).thenReturn(1200L);
+
+        TaskCursorPageResponse page = taskService.getTasksByCursor(
+                filter, TaskListSort.RANK, "", 50, true, 5L, "USER");
+
+        assertThat(page.getEstimatedTotal()).isEqualTo(1200L);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getTasksByCursor_refuse_un_curseur_dun_autre_tri() {
+        TaskCard ranked = card(100L, 1L, 65536L);
+        String rankCursor = TaskListCursor.after(ranked, TaskListSort.RANK).encode();
+
+        assertThatThrownBy(() -> taskService.getTasksByCursor(
+                TaskFilter.builder().projectId(10L).build(), TaskListSort.CREATED_AT, rankCursor, 50, false, 5L, "USER"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    // getDueTasks
+    @Test
+    void getDueTasks_trie_par_echeance_et_renvoie_un_curseur_decheance() {
+        TaskCard first = new TaskCard(100L, "Task 100", 1L, Priority.HIGH, LocalDate.of(2024, 5, 1),
+                10L, 5L, 1L, null, null, 0L, null);
+        TaskCard second = new TaskCard(101L, "Task 101", 1L, Priority.LOW, LocalDate.of(2024, 5, 2),
+                10L, 5L, 2L, null, null, 0L, null);
+        when(taskRepository.findCards(any(Specification.class), eq(Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"))), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(statusCache.getStatusesForProjects(eq(Set.of(10L)), eq(5L), eq("USER"), any()))
+                .thenReturn(Map.of(10L, List.of(todo, done)));
+
+        TaskCursorPageResponse page = taskService.getDueTasks(
+                null, 5L, null, LocalDate.of(2024, 5, 10), null, 1, 5L, "USER");
+
+        assertThat(page.getContent()).extracting(TaskResponse::getId).containsExactly(100L);
+        TaskListCursor next = TaskListCursor.decode(page.getNextCursor(), TaskListSort.DUE_DATE);
+        assertThat(next.getDueDate()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(next.getId()).isEqualTo(100L);
+    }
+
+    @Test
+    void getDueTasks_refuse_un_intervalle_vide() {
+        assertThatThrownBy(() -> taskService.getDueTasks(
+                10L, null, LocalDate.of(2024, 5, 10), LocalDate.of(2024, 5, 10), null, 50, 5L, "USER"))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getDueTasks_sans_projet_ni_assigne_est_reserve_aux_admins() {
+        assertThatThrownBy(() -> taskService.getDueTasks(
+                null, null, null, LocalDate.of(2024, 5, 10), null, 50, 5L, "USER"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // getTaskStatsByProject
+    @Test
+    void getTaskStatsByProject_compte_chaque_colonne_dans_lordre_des_statuts() {
+        when(statusCache.getStatuses(10L, 5L, "USER")).thenReturn(List.of(todo, done));
+        when(statsCache.getStatusCounts(10L)).thenReturn(Map.of(2L, 4L));
+
+        TaskStatsResponse stats = taskService.getTaskStatsByProject(10L, 5L, "USER");
+
+        assertThat(stats.getTotalTasks()).isEqualTo(4);
+        assertThat(stats.getTasksByStatus()).containsExactly(Map.entry(1L, 0), Map.entry(2L, 4));
+        assertThat(stats.getTodoTasks()).isZero();
+        assertThat(stats.getDoneTasks()).isEqualTo(4);
+    }
+
+    @Test
+    void getTaskStatsByProject_sans_identite_nappelle_pas_project_service() {
+        when(statusCache.peekStatuses(10L)).thenReturn(Optional.empty());
+        when(statsCache.getStatusCounts(10L)).thenReturn(Map.of(1L, 2L, 2L, 1L));
+
+        TaskStatsResponse stats = taskService.getTaskStatsByProject(10L, null, null);
+
+        assertThat(stats.getTotalTasks()).isEqualTo(3);
+        assertThat(stats.getTasksByStatus()).containsEntry(1L, 2).containsEntry(2L, 1);
+        // Noms des colonnes inconnus : pas de faux zéros
+        assertThat(stats.getTodoTasks()).isNull();
+        assertThat(stats.getInProgressTasks()).isNull();
+        assertThat(stats.getDoneTasks()).isNull();
+        verify(statusCache, never()).getStatuses(anyLong(), any(), any());
+        verifyNoInteractions(accessCache);
+    }
+}